@@ -0,0 +1,51 @@
+package com.novachevskyi.datepicker.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Allocation budget for month binding and the per-cell draw queries. Both run
+// through MonthState, LongLruCache and MonthPositionWindow, the same :core
+// code MonthView and MonthAdapter call, so a regression there fails the
+// build. Canvas and Paint calls need Android and are not measured. Run with
+// the GC profiler; gc.alloc.rate.norm is then bytes per month. The
+// allocationCheck task compares it against allocation-budget.properties.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class AllocationBenchmark {
+
+  private final MonthBindFixture mFixture = new MonthBindFixture();
+
+  @Benchmark
+  @OperationsPerInvocation(BenchmarkRanges.MONTH_COUNT)
+  public int coreMonthBind() {
+    int checksum = 0;
+    for (int position = 0; position < BenchmarkRanges.MONTH_COUNT; position++) {
+      checksum += mFixture.bind(position);
+    }
+    return checksum;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BenchmarkRanges.MONTH_COUNT)
+  public int coreMonthBindAndCellWalk() {
+    int checksum = 0;
+    for (int position = 0; position < BenchmarkRanges.MONTH_COUNT; position++) {
+      checksum += mFixture.bind(position);
+      checksum += mFixture.walkCells();
+    }
+    return checksum;
+  }
+}
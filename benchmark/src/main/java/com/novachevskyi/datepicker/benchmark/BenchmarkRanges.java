@@ -0,0 +1,11 @@
+package com.novachevskyi.datepicker.benchmark;
+
+final class BenchmarkRanges {
+
+  static final int MIN_YEAR = 1900;
+  static final int MAX_YEAR = 2100;
+  static final int MONTH_COUNT = (MAX_YEAR - MIN_YEAR + 1) * 12;
+
+  private BenchmarkRanges() {
+  }
+}
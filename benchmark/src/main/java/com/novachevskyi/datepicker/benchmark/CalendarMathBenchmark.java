@@ -0,0 +1,76 @@
+package com.novachevskyi.datepicker.benchmark;
+
+import com.novachevskyi.datepicker.utils.CalendarMath;
+import com.novachevskyi.datepicker.utils.MonthLayoutTable;
+import java.util.Calendar;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CalendarMathBenchmark {
+
+  private static final int EPOCH_JULIAN_DAY = 2440588;
+
+  private MonthLayoutTable mLayoutTable;
+  private int mFirstJulianDay;
+  private int mDayCount;
+  private int mMonthIndex;
+  private int mDayIndex;
+
+  @Setup
+  public void setUp() {
+    mLayoutTable = MonthLayoutTable.getInstance(BenchmarkRanges.MIN_YEAR,
+        BenchmarkRanges.MAX_YEAR, Calendar.SUNDAY);
+    final int firstEpochDay = CalendarMath.toEpochDay(BenchmarkRanges.MIN_YEAR, 0, 1);
+    mFirstJulianDay = firstEpochDay + EPOCH_JULIAN_DAY;
+    mDayCount = CalendarMath.toEpochDay(BenchmarkRanges.MAX_YEAR + 1, 0, 1) - firstEpochDay;
+  }
+
+  @Benchmark
+  public int getDaysInMonth() {
+    final int index = nextMonth();
+    return CalendarMath.getDaysInMonth(BenchmarkRanges.MIN_YEAR + index / 12, index % 12);
+  }
+
+  @Benchmark
+  public int getWeeksSinceEpochFromJulianDay() {
+    mDayIndex = mDayIndex == mDayCount - 1 ? 0 : mDayIndex + 1;
+    return CalendarMath.getWeeksSinceEpochFromJulianDay(mFirstJulianDay + mDayIndex,
+        Calendar.SUNDAY);
+  }
+
+  @Benchmark
+  public int computeNumRows() {
+    final int index = nextMonth();
+    final int layout = MonthLayoutTable.computeLayout(BenchmarkRanges.MIN_YEAR + index / 12,
+        index % 12, Calendar.SUNDAY);
+    return MonthLayoutTable.getDayOffset(layout) + MonthLayoutTable.getNumRows(layout);
+  }
+
+  @Benchmark
+  public int lookupNumRows() {
+    final int index = nextMonth();
+    final int layout = mLayoutTable.getLayout(BenchmarkRanges.MIN_YEAR + index / 12,
+        index % 12);
+    return MonthLayoutTable.getDayOffset(layout) + MonthLayoutTable.getNumRows(layout);
+  }
+
+  private int nextMonth() {
+    mMonthIndex = mMonthIndex == BenchmarkRanges.MONTH_COUNT - 1 ? 0 : mMonthIndex + 1;
+    return mMonthIndex;
+  }
+}
@@ -0,0 +1,76 @@
+package com.novachevskyi.datepicker.benchmark;
+
+import com.novachevskyi.datepicker.utils.MonthLayoutTable;
+import java.util.Calendar;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HitTestBenchmark {
+
+  private static final int WIDTH = 1080;
+  private static final int PADDING = 0;
+  private static final int MONTH_HEADER_SIZE = 160;
+  private static final int ROW_HEIGHT = 140;
+  private static final int NUM_DAYS = MonthLayoutTable.DAYS_IN_WEEK;
+  private static final int MAX_ROWS = 6;
+  private static final int POINTS_PER_CELL = 3;
+
+  private float[] mX;
+  private float[] mY;
+  private int mDayOffset;
+  private int mDaysInMonth;
+  private int mPoint;
+
+  @Setup
+  public void setUp() {
+    final int layout = MonthLayoutTable.computeLayout(2015, Calendar.MARCH, Calendar.SUNDAY);
+    mDayOffset = MonthLayoutTable.getDayOffset(layout);
+    mDaysInMonth = MonthLayoutTable.getDaysInMonth(layout);
+
+    final int cellWidth = (WIDTH - PADDING * 2) / NUM_DAYS;
+    final int points = NUM_DAYS * MAX_ROWS * POINTS_PER_CELL;
+    mX = new float[points];
+    mY = new float[points];
+    int n = 0;
+    for (int row = 0; row < MAX_ROWS; row++) {
+      for (int column = 0; column < NUM_DAYS; column++) {
+        for (int i = 0; i < POINTS_PER_CELL; i++) {
+          mX[n] = PADDING + column * cellWidth + (i + 0.5f) * cellWidth / POINTS_PER_CELL;
+          mY[n] = MONTH_HEADER_SIZE + row * ROW_HEIGHT + (i + 0.5f) * ROW_HEIGHT / POINTS_PER_CELL;
+          n++;
+        }
+      }
+    }
+  }
+
+  @Benchmark
+  public int getDayFromLocation() {
+    mPoint = mPoint == mX.length - 1 ? 0 : mPoint + 1;
+    return getDayFromLocation(mX[mPoint], mY[mPoint]);
+  }
+
+  // Mirrors MonthView.getDayFromLocation for the geometry above.
+  private int getDayFromLocation(float x, float y) {
+    if (x < PADDING || x > WIDTH - PADDING) {
+      return -1;
+    }
+    final int row = (int) (y - MONTH_HEADER_SIZE) / ROW_HEIGHT;
+    final int column = (int) ((x - PADDING) * NUM_DAYS / (WIDTH - PADDING - PADDING));
+    return MonthLayoutTable.getDayAt(row, column, NUM_DAYS, mDayOffset, mDaysInMonth);
+  }
+}
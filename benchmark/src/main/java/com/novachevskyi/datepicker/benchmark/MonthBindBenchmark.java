@@ -0,0 +1,33 @@
+package com.novachevskyi.datepicker.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MonthBindBenchmark {
+
+  private final MonthBindFixture mFixture = new MonthBindFixture();
+
+  @Benchmark
+  public int bindAllMonths() {
+    final int count = mFixture.getCount();
+    int checksum = 0;
+    for (int position = 0; position < count; position++) {
+      checksum += mFixture.bind(position);
+    }
+    return checksum;
+  }
+}
@@ -0,0 +1,123 @@
+package com.novachevskyi.datepicker.benchmark;
+
+import com.novachevskyi.datepicker.utils.CalendarMath;
+import com.novachevskyi.datepicker.utils.Clock;
+import com.novachevskyi.datepicker.utils.EpochDaySet;
+import com.novachevskyi.datepicker.utils.LongLruCache;
+import com.novachevskyi.datepicker.utils.MonthLayoutTable;
+import com.novachevskyi.datepicker.utils.MonthPositionWindow;
+import com.novachevskyi.datepicker.utils.MonthState;
+import com.novachevskyi.datepicker.utils.TodaySnapshot;
+import java.util.Calendar;
+import java.util.TimeZone;
+
+// Binds the MonthState that MonthView uses over the default year range:
+// weekends disabled, a short multi-selection and a six-week range. The title
+// and decoration lookups go through LongLruCache with the same keys and sizes
+// as MonthTitleCache and DayDecorationLoader; formatting and loading are left
+// out because they need Android.
+final class MonthBindFixture {
+
+  private static final int SELECTED_YEAR = 2015;
+  private static final int SELECTED_MONTH = Calendar.JUNE;
+  private static final int SELECTED_DAY = 15;
+
+  private static final int TITLE_CACHE_SIZE = 120;
+  private static final int DECORATION_CACHE_SIZE = 48;
+  private static final Object CACHED = new Object();
+
+  final MonthState mState = new MonthState();
+  private final TodaySnapshot mToday;
+
+  private final MonthPositionWindow mWindow =
+      new MonthPositionWindow(BenchmarkRanges.MONTH_COUNT);
+  private final MonthLayoutTable mLayoutTable;
+  private final EpochDaySet mDisabledDays;
+  private final EpochDaySet mSelectedDays;
+  private final int mRangeStartEpochDay;
+  private final int mRangeEndEpochDay;
+  private final LongLruCache<Object> mTitles = new LongLruCache<>(TITLE_CACHE_SIZE);
+  private final LongLruCache<Object> mDecorations = new LongLruCache<>(DECORATION_CACHE_SIZE);
+
+  MonthBindFixture() {
+    mWindow.setYearRange(BenchmarkRanges.MIN_YEAR, BenchmarkRanges.MAX_YEAR);
+    mLayoutTable = MonthLayoutTable.getInstance(BenchmarkRanges.MIN_YEAR,
+        BenchmarkRanges.MAX_YEAR, Calendar.SUNDAY);
+
+    final int firstEpochDay = CalendarMath.toEpochDay(BenchmarkRanges.MIN_YEAR, 0, 1);
+    final int lastEpochDay = CalendarMath.toEpochDay(BenchmarkRanges.MAX_YEAR, 11, 31);
+    mDisabledDays = new EpochDaySet(firstEpochDay, lastEpochDay);
+    mSelectedDays = new EpochDaySet(firstEpochDay, lastEpochDay);
+    for (int day = firstEpochDay; day <= lastEpochDay; day++) {
+      final int dayOfWeek = CalendarMath.getDayOfWeek(day);
+      if (dayOfWeek == Calendar.SATURDAY || dayOfWeek == Calendar.SUNDAY) {
+        mDisabledDays.add(day);
+      }
+    }
+    final int selectedEpochDay =
+        CalendarMath.toEpochDay(SELECTED_YEAR, SELECTED_MONTH, SELECTED_DAY);
+    mSelectedDays.addRange(selectedEpochDay, selectedEpochDay + 3);
+    mRangeStartEpochDay = selectedEpochDay;
+    mRangeEndEpochDay = selectedEpochDay + 45;
+
+    final long todayMillis = CalendarMath.toUtcMillis(selectedEpochDay);
+    mToday = new TodaySnapshot(new Clock() {
+      @Override
+      public long currentTimeMillis() {
+        return todayMillis;
+      }
+
+      @Override
+      public TimeZone getTimeZone() {
+        return TimeZone.getTimeZone("UTC");
+      }
+    });
+  }
+
+  int getCount() {
+    return mWindow.getCount();
+  }
+
+  int bind(int position) {
+    final int year = mWindow.getYear(position);
+    final int month = mWindow.getMonth(position);
+    final int selectedDay =
+        year == SELECTED_YEAR && month == SELECTED_MONTH ? SELECTED_DAY : -1;
+    mState.setMonth(year, month, selectedDay, Calendar.SUNDAY, mToday, mLayoutTable,
+        mDisabledDays, mSelectedDays);
+    mState.setSelectedRange(mRangeStartEpochDay, mRangeEndEpochDay);
+
+    final int monthIndex = CalendarMath.toMonthIndex(year, month);
+    final long titleKey = MonthState.getTitleKey(monthIndex, MonthState.MONTH_TITLE_FLAGS);
+    final int hits = lookup(mTitles, titleKey) + lookup(mDecorations, monthIndex);
+    return mState.getNumRows() + mState.getDisabledDays() + mState.getRangeLastDay() + hits;
+  }
+
+  // The per-cell state queries MonthView and SimpleMonthView make while drawing a month.
+  int walkCells() {
+    int checksum = 0;
+    for (int day = 1; day <= mState.getNumCells(); day++) {
+      final int index = mState.getDayIndex(day);
+      int state = index % MonthLayoutTable.DAYS_IN_WEEK;
+      if (mState.isDynamicDay(day)) {
+        state |= 1 << 3;
+      }
+      if (mState.isDayDisabled(day)) {
+        state |= 1 << 4;
+      }
+      if (mState.isDaySelected(day) || mState.isDayInRange(day)) {
+        state |= 1 << 5;
+      }
+      checksum += index ^ state;
+    }
+    return checksum;
+  }
+
+  private static int lookup(LongLruCache<Object> cache, long key) {
+    if (cache.get(key) != null) {
+      return 1;
+    }
+    cache.put(key, CACHED);
+    return 0;
+  }
+}
@@ -0,0 +1,167 @@
+package com.novachevskyi.datepicker.utils;
+
+import java.util.TimeZone;
+
+public final class CalendarMath {
+
+  public static final int MONTHS_IN_YEAR = 12;
+  public static final int DAYS_IN_WEEK = 7;
+  public static final long MILLIS_PER_DAY = 86400000L;
+  public static final long MILLIS_PER_HOUR = 3600000L;
+
+  private static final int SUNDAY = 1;
+  private static final int THURSDAY = 5;
+  private static final int TIME_THURSDAY = 4;
+  private static final int EPOCH_JULIAN_DAY = 2440588;
+
+  private static final int DAYS_PER_ERA = 146097;
+  private static final int DAYS_FROM_ERA_TO_EPOCH = 719468;
+
+  private static final int YEAR_SHIFT = 9;
+  private static final int MONTH_SHIFT = 5;
+  private static final int MONTH_MASK = 0xf;
+  private static final int DAY_MASK = 0x1f;
+
+  private static final int[] DAYS_IN_MONTH = {31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+
+  private CalendarMath() {
+  }
+
+  public static boolean isLeapYear(int year) {
+    return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+  }
+
+  public static int getDaysInMonth(int year, int month) {
+    if (month == 1 && isLeapYear(year)) {
+      return 29;
+    }
+    return DAYS_IN_MONTH[month];
+  }
+
+  public static int toEpochDay(int year, int month, int day) {
+    final int m = month + 1;
+    final int y = m <= 2 ? year - 1 : year;
+    final int era = (y >= 0 ? y : y - 399) / 400;
+    final int yearOfEra = y - era * 400;
+    final int dayOfYear = (153 * (m > 2 ? m - 3 : m + 9) + 2) / 5 + day - 1;
+    final int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+    return era * DAYS_PER_ERA + dayOfEra - DAYS_FROM_ERA_TO_EPOCH;
+  }
+
+  public static int toPackedDate(int epochDay) {
+    final int z = epochDay + DAYS_FROM_ERA_TO_EPOCH;
+    final int era = (z >= 0 ? z : z - (DAYS_PER_ERA - 1)) / DAYS_PER_ERA;
+    final int dayOfEra = z - era * DAYS_PER_ERA;
+    final int yearOfEra =
+        (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / (DAYS_PER_ERA - 1)) / 365;
+    final int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+    final int mp = (5 * dayOfYear + 2) / 153;
+    final int day = dayOfYear - (153 * mp + 2) / 5 + 1;
+    final int m = mp < 10 ? mp + 3 : mp - 9;
+    final int year = yearOfEra + era * 400 + (m <= 2 ? 1 : 0);
+    return packDate(year, m - 1, day);
+  }
+
+  public static int packDate(int year, int month, int day) {
+    return (year << YEAR_SHIFT) | (month << MONTH_SHIFT) | day;
+  }
+
+  public static int getPackedYear(int packedDate) {
+    return packedDate >> YEAR_SHIFT;
+  }
+
+  public static int getPackedMonth(int packedDate) {
+    return (packedDate >> MONTH_SHIFT) & MONTH_MASK;
+  }
+
+  public static int getPackedDay(int packedDate) {
+    return packedDate & DAY_MASK;
+  }
+
+  public static int getYear(int epochDay) {
+    return getPackedYear(toPackedDate(epochDay));
+  }
+
+  public static int getMonth(int epochDay) {
+    return getPackedMonth(toPackedDate(epochDay));
+  }
+
+  public static int getDayOfMonth(int epochDay) {
+    return getPackedDay(toPackedDate(epochDay));
+  }
+
+  public static int getDayOfWeek(int epochDay) {
+    return floorMod(epochDay + THURSDAY - SUNDAY, DAYS_IN_WEEK) + SUNDAY;
+  }
+
+  public static int getDayOfWeek(int year, int month, int day) {
+    return getDayOfWeek(toEpochDay(year, month, day));
+  }
+
+  public static int toMonthIndex(int year, int month) {
+    return year * MONTHS_IN_YEAR + month;
+  }
+
+  public static int getYearOfMonthIndex(int monthIndex) {
+    return floorDiv(monthIndex, MONTHS_IN_YEAR);
+  }
+
+  public static int getMonthOfMonthIndex(int monthIndex) {
+    return floorMod(monthIndex, MONTHS_IN_YEAR);
+  }
+
+  public static int addMonths(int epochDay, int months) {
+    final int packed = toPackedDate(epochDay);
+    final int monthIndex = toMonthIndex(getPackedYear(packed), getPackedMonth(packed)) + months;
+    final int year = getYearOfMonthIndex(monthIndex);
+    final int month = getMonthOfMonthIndex(monthIndex);
+    final int day = Math.min(getPackedDay(packed), getDaysInMonth(year, month));
+    return toEpochDay(year, month, day);
+  }
+
+  public static int toEpochDay(long millis, int zoneOffsetMillis) {
+    return (int) floorDiv(millis + zoneOffsetMillis, MILLIS_PER_DAY);
+  }
+
+  public static int toEpochDay(long millis, TimeZone zone) {
+    return toEpochDay(millis, zone.getOffset(millis));
+  }
+
+  public static long toUtcMillis(int epochDay) {
+    return epochDay * MILLIS_PER_DAY;
+  }
+
+  public static long toLocalMillis(int epochDay, int hourOfDay, TimeZone zone) {
+    final long localMillis = epochDay * MILLIS_PER_DAY + hourOfDay * MILLIS_PER_HOUR;
+    return localMillis - zone.getOffset(localMillis - zone.getRawOffset());
+  }
+
+  public static int getWeeksSinceEpochFromJulianDay(int julianDay, int firstDayOfWeek) {
+    int diff = TIME_THURSDAY - firstDayOfWeek;
+    if (diff < 0) {
+      diff += DAYS_IN_WEEK;
+    }
+    int refDay = EPOCH_JULIAN_DAY - diff;
+    return (julianDay - refDay) / DAYS_IN_WEEK;
+  }
+
+  private static int floorDiv(int x, int y) {
+    int q = x / y;
+    if ((x % y != 0) && ((x ^ y) < 0)) {
+      q--;
+    }
+    return q;
+  }
+
+  private static long floorDiv(long x, long y) {
+    long q = x / y;
+    if ((x % y != 0) && ((x ^ y) < 0)) {
+      q--;
+    }
+    return q;
+  }
+
+  private static int floorMod(int x, int y) {
+    return x - floorDiv(x, y) * y;
+  }
+}
@@ -0,0 +1,22 @@
+package com.novachevskyi.datepicker.utils;
+
+import java.util.TimeZone;
+
+public interface Clock {
+
+  Clock SYSTEM = new Clock() {
+    @Override
+    public long currentTimeMillis() {
+      return System.currentTimeMillis();
+    }
+
+    @Override
+    public TimeZone getTimeZone() {
+      return TimeZone.getDefault();
+    }
+  };
+
+  long currentTimeMillis();
+
+  TimeZone getTimeZone();
+}
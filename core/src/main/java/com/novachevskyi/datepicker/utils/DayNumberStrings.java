@@ -0,0 +1,42 @@
+package com.novachevskyi.datepicker.utils;
+
+import java.util.Locale;
+
+public final class DayNumberStrings {
+
+  public static final int MAX_DAY_NUMBER = 31;
+
+  private static DayNumberStrings sInstance;
+
+  private final Locale mLocale;
+  private final String[] mDayNumbers = new String[MAX_DAY_NUMBER + 1];
+
+  private DayNumberStrings(Locale locale) {
+    mLocale = locale;
+    for (int day = 1; day <= MAX_DAY_NUMBER; day++) {
+      mDayNumbers[day] = String.format(locale, "%d", day);
+    }
+  }
+
+  public static DayNumberStrings getInstance() {
+    final Locale locale = Locale.getDefault();
+    DayNumberStrings strings = sInstance;
+    if (strings == null || !strings.mLocale.equals(locale)) {
+      strings = new DayNumberStrings(locale);
+      sInstance = strings;
+    }
+    return strings;
+  }
+
+  public static void invalidate() {
+    sInstance = null;
+  }
+
+  public Locale getLocale() {
+    return mLocale;
+  }
+
+  public String get(int day) {
+    return mDayNumbers[day];
+  }
+}
@@ -0,0 +1,273 @@
+package com.novachevskyi.datepicker.utils;
+
+public final class EpochDaySet {
+
+  public static final int NO_DAY = Integer.MIN_VALUE;
+
+  private static final int ADDRESS_BITS_PER_WORD = 6;
+  private static final int BIT_INDEX_MASK = 63;
+  private static final long WORD_MASK = 0xffffffffffffffffL;
+
+  private final int mFirstEpochDay;
+  private final int mLastEpochDay;
+  private final long[] mWords;
+
+  public EpochDaySet(int firstEpochDay, int lastEpochDay) {
+    if (lastEpochDay < firstEpochDay) {
+      throw new IllegalArgumentException("Last day must not precede first day");
+    }
+    mFirstEpochDay = firstEpochDay;
+    mLastEpochDay = lastEpochDay;
+    mWords = new long[((lastEpochDay - firstEpochDay) >> ADDRESS_BITS_PER_WORD) + 1];
+  }
+
+  public int getFirstEpochDay() {
+    return mFirstEpochDay;
+  }
+
+  public int getLastEpochDay() {
+    return mLastEpochDay;
+  }
+
+  public boolean contains(int epochDay) {
+    if (epochDay < mFirstEpochDay || epochDay > mLastEpochDay) {
+      return false;
+    }
+    final int index = epochDay - mFirstEpochDay;
+    return (mWords[index >> ADDRESS_BITS_PER_WORD] & (1L << index)) != 0;
+  }
+
+  public void add(int epochDay) {
+    if (epochDay >= mFirstEpochDay && epochDay <= mLastEpochDay) {
+      final int index = epochDay - mFirstEpochDay;
+      mWords[index >> ADDRESS_BITS_PER_WORD] |= 1L << index;
+    }
+  }
+
+  public void remove(int epochDay) {
+    if (epochDay >= mFirstEpochDay && epochDay <= mLastEpochDay) {
+      final int index = epochDay - mFirstEpochDay;
+      mWords[index >> ADDRESS_BITS_PER_WORD] &= ~(1L << index);
+    }
+  }
+
+  public void addAll(int[] epochDays) {
+    for (int epochDay : epochDays) {
+      add(epochDay);
+    }
+  }
+
+  public void addAll(EpochDaySet other) {
+    int from = other.nextSetDay(Math.max(mFirstEpochDay, other.mFirstEpochDay));
+    while (from != NO_DAY && from <= mLastEpochDay) {
+      final int to = other.nextClearDay(from);
+      addRange(from, to - 1);
+      from = other.nextSetDay(to);
+    }
+  }
+
+  public void set(EpochDaySet other) {
+    checkSameBounds(other);
+    System.arraycopy(other.mWords, 0, mWords, 0, mWords.length);
+  }
+
+  public long[] toWords() {
+    return mWords.clone();
+  }
+
+  public void setWords(long[] words) {
+    if (words.length != mWords.length) {
+      throw new IllegalArgumentException("Words must cover the same days");
+    }
+    System.arraycopy(words, 0, mWords, 0, mWords.length);
+    mWords[mWords.length - 1] &=
+        WORD_MASK >>> (BIT_INDEX_MASK - ((mLastEpochDay - mFirstEpochDay) & BIT_INDEX_MASK));
+  }
+
+  public void addRange(int firstEpochDay, int lastEpochDay) {
+    setRange(firstEpochDay, lastEpochDay, true);
+  }
+
+  public void removeRange(int firstEpochDay, int lastEpochDay) {
+    setRange(firstEpochDay, lastEpochDay, false);
+  }
+
+  private void setRange(int firstEpochDay, int lastEpochDay, boolean value) {
+    final int from = Math.max(firstEpochDay, mFirstEpochDay) - mFirstEpochDay;
+    final int to = Math.min(lastEpochDay, mLastEpochDay) - mFirstEpochDay;
+    if (from > to) {
+      return;
+    }
+
+    final int startWord = from >> ADDRESS_BITS_PER_WORD;
+    final int endWord = to >> ADDRESS_BITS_PER_WORD;
+    final long firstWordMask = WORD_MASK << from;
+    final long lastWordMask = WORD_MASK >>> (BIT_INDEX_MASK - (to & BIT_INDEX_MASK));
+
+    if (startWord == endWord) {
+      applyMask(startWord, firstWordMask & lastWordMask, value);
+    } else {
+      applyMask(startWord, firstWordMask, value);
+      for (int i = startWord + 1; i < endWord; i++) {
+        mWords[i] = value ? WORD_MASK : 0;
+      }
+      applyMask(endWord, lastWordMask, value);
+    }
+  }
+
+  private void applyMask(int wordIndex, long mask, boolean value) {
+    if (value) {
+      mWords[wordIndex] |= mask;
+    } else {
+      mWords[wordIndex] &= ~mask;
+    }
+  }
+
+  public void clear() {
+    for (int i = 0; i < mWords.length; i++) {
+      mWords[i] = 0;
+    }
+  }
+
+  public boolean isEmpty() {
+    for (long word : mWords) {
+      if (word != 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  public int size() {
+    int size = 0;
+    for (long word : mWords) {
+      size += Long.bitCount(word);
+    }
+    return size;
+  }
+
+  public int nextSetDay(int fromEpochDay) {
+    if (fromEpochDay > mLastEpochDay) {
+      return NO_DAY;
+    }
+    final int from = Math.max(fromEpochDay, mFirstEpochDay) - mFirstEpochDay;
+    int wordIndex = from >> ADDRESS_BITS_PER_WORD;
+    long word = mWords[wordIndex] & (WORD_MASK << from);
+    while (true) {
+      if (word != 0) {
+        final int epochDay = wordIndex * 64 + Long.numberOfTrailingZeros(word) + mFirstEpochDay;
+        return epochDay <= mLastEpochDay ? epochDay : NO_DAY;
+      }
+      if (++wordIndex == mWords.length) {
+        return NO_DAY;
+      }
+      word = mWords[wordIndex];
+    }
+  }
+
+  public int nextClearDay(int fromEpochDay) {
+    if (fromEpochDay < mFirstEpochDay || fromEpochDay > mLastEpochDay) {
+      return fromEpochDay;
+    }
+    final int from = fromEpochDay - mFirstEpochDay;
+    int wordIndex = from >> ADDRESS_BITS_PER_WORD;
+    long word = ~mWords[wordIndex] & (WORD_MASK << from);
+    while (true) {
+      if (word != 0) {
+        return wordIndex * 64 + Long.numberOfTrailingZeros(word) + mFirstEpochDay;
+      }
+      if (++wordIndex == mWords.length) {
+        return wordIndex * 64 + mFirstEpochDay;
+      }
+      word = ~mWords[wordIndex];
+    }
+  }
+
+  public int previousSetDay(int fromEpochDay) {
+    if (fromEpochDay < mFirstEpochDay) {
+      return NO_DAY;
+    }
+    final int from = Math.min(fromEpochDay, mLastEpochDay) - mFirstEpochDay;
+    int wordIndex = from >> ADDRESS_BITS_PER_WORD;
+    long word = mWords[wordIndex] & (WORD_MASK >>> (BIT_INDEX_MASK - (from & BIT_INDEX_MASK)));
+    while (true) {
+      if (word != 0) {
+        return (wordIndex + 1) * 64 - 1 - Long.numberOfLeadingZeros(word) + mFirstEpochDay;
+      }
+      if (wordIndex-- == 0) {
+        return NO_DAY;
+      }
+      word = mWords[wordIndex];
+    }
+  }
+
+  public int previousClearDay(int fromEpochDay) {
+    if (fromEpochDay < mFirstEpochDay || fromEpochDay > mLastEpochDay) {
+      return fromEpochDay;
+    }
+    final int from = fromEpochDay - mFirstEpochDay;
+    int wordIndex = from >> ADDRESS_BITS_PER_WORD;
+    long word = ~mWords[wordIndex] & (WORD_MASK >>> (BIT_INDEX_MASK - (from & BIT_INDEX_MASK)));
+    while (true) {
+      if (word != 0) {
+        return (wordIndex + 1) * 64 - 1 - Long.numberOfLeadingZeros(word) + mFirstEpochDay;
+      }
+      if (wordIndex-- == 0) {
+        return mFirstEpochDay - 1;
+      }
+      word = ~mWords[wordIndex];
+    }
+  }
+
+  public int getMonthMask(int firstEpochDayOfMonth, int daysInMonth) {
+    final int from = Math.max(firstEpochDayOfMonth, mFirstEpochDay);
+    final int to = Math.min(firstEpochDayOfMonth + daysInMonth - 1, mLastEpochDay);
+    if (from > to) {
+      return 0;
+    }
+
+    final int index = from - mFirstEpochDay;
+    final int length = to - from + 1;
+    final int wordIndex = index >> ADDRESS_BITS_PER_WORD;
+    final int bitIndex = index & BIT_INDEX_MASK;
+    long bits = mWords[wordIndex] >>> bitIndex;
+    if (bitIndex + length > 64) {
+      bits |= mWords[wordIndex + 1] << (64 - bitIndex);
+    }
+    return (int) (bits & ((1L << length) - 1)) << (from - firstEpochDayOfMonth);
+  }
+
+  public int[] toArrayExcluding(EpochDaySet other) {
+    checkSameBounds(other);
+    int size = 0;
+    for (int i = 0; i < mWords.length; i++) {
+      size += Long.bitCount(mWords[i] & ~other.mWords[i]);
+    }
+
+    final int[] epochDays = new int[size];
+    int n = 0;
+    for (int i = 0; i < mWords.length && n < size; i++) {
+      long word = mWords[i] & ~other.mWords[i];
+      while (word != 0) {
+        epochDays[n++] = i * 64 + Long.numberOfTrailingZeros(word) + mFirstEpochDay;
+        word &= word - 1;
+      }
+    }
+    return epochDays;
+  }
+
+  private void checkSameBounds(EpochDaySet other) {
+    if (other.mFirstEpochDay != mFirstEpochDay || other.mLastEpochDay != mLastEpochDay) {
+      throw new IllegalArgumentException("Sets must cover the same days");
+    }
+  }
+
+  public int[] toArray() {
+    final int[] epochDays = new int[size()];
+    int i = 0;
+    for (int day = nextSetDay(mFirstEpochDay); day != NO_DAY; day = nextSetDay(day + 1)) {
+      epochDays[i++] = day;
+    }
+    return epochDays;
+  }
+}
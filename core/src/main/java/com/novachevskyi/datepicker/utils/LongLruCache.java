@@ -0,0 +1,232 @@
+package com.novachevskyi.datepicker.utils;
+
+import java.util.Arrays;
+
+public class LongLruCache<V> {
+
+  private static final int NONE = -1;
+
+  private final int mMaxEntries;
+  private final int mMaxSize;
+  private final long[] mKeys;
+  private final Object[] mValues;
+  private final int[] mSizes;
+  private final int[] mPrevious;
+  private final int[] mNext;
+
+  // Open-addressed index into the entry arrays, stored as entry + 1 so that 0 marks an empty slot.
+  private final int[] mTable;
+  private final int mMask;
+
+  private int mSize;
+  private int mUsedEntries;
+  private int mFreeHead = NONE;
+  private int mHead = NONE;
+  private int mTail = NONE;
+
+  private int mHitCount;
+  private int mMissCount;
+
+  public LongLruCache(int maxSize) {
+    this(maxSize, maxSize);
+  }
+
+  // maxSize bounds the sum of sizeOf over all entries; maxEntries bounds their number.
+  public LongLruCache(int maxEntries, int maxSize) {
+    if (maxEntries <= 0 || maxSize <= 0) {
+      throw new IllegalArgumentException("maxEntries <= 0 || maxSize <= 0");
+    }
+    mMaxEntries = maxEntries;
+    mMaxSize = maxSize;
+    mKeys = new long[maxEntries];
+    mValues = new Object[maxEntries];
+    mSizes = new int[maxEntries];
+    mPrevious = new int[maxEntries];
+    mNext = new int[maxEntries];
+
+    int tableSize = Integer.highestOneBit(maxEntries) << 2;
+    mTable = new int[tableSize];
+    mMask = tableSize - 1;
+  }
+
+  protected int sizeOf(long key, V value) {
+    return 1;
+  }
+
+  @SuppressWarnings("unchecked")
+  public final V get(long key) {
+    final int entry = findEntry(key);
+    if (entry == NONE) {
+      mMissCount++;
+      return null;
+    }
+    mHitCount++;
+    moveToHead(entry);
+    return (V) mValues[entry];
+  }
+
+  @SuppressWarnings("unchecked")
+  public final V put(long key, V value) {
+    if (value == null) {
+      throw new NullPointerException("value == null");
+    }
+    final int size = safeSizeOf(key, value);
+    int entry = findEntry(key);
+    V previous = null;
+    if (entry != NONE) {
+      previous = (V) mValues[entry];
+      mSize -= mSizes[entry];
+      moveToHead(entry);
+    } else {
+      entry = allocateEntry();
+      mKeys[entry] = key;
+      insertIntoTable(entry);
+      linkAtHead(entry);
+    }
+    mValues[entry] = value;
+    mSizes[entry] = size;
+    mSize += size;
+    trimToSize(mMaxSize);
+    return previous;
+  }
+
+  public final void evictAll() {
+    Arrays.fill(mTable, 0);
+    Arrays.fill(mValues, 0, mUsedEntries, null);
+    mSize = 0;
+    mUsedEntries = 0;
+    mFreeHead = NONE;
+    mHead = NONE;
+    mTail = NONE;
+  }
+
+  public final int size() {
+    return mSize;
+  }
+
+  public final int maxSize() {
+    return mMaxSize;
+  }
+
+  public final int hitCount() {
+    return mHitCount;
+  }
+
+  public final int missCount() {
+    return mMissCount;
+  }
+
+  private int safeSizeOf(long key, V value) {
+    final int size = sizeOf(key, value);
+    if (size < 0) {
+      throw new IllegalStateException("Negative size: " + key + "=" + value);
+    }
+    return size;
+  }
+
+  private void trimToSize(int maxSize) {
+    while (mSize > maxSize && mTail != NONE) {
+      removeEntry(mTail);
+    }
+  }
+
+  private int allocateEntry() {
+    if (mFreeHead == NONE) {
+      if (mUsedEntries < mMaxEntries) {
+        return mUsedEntries++;
+      }
+      removeEntry(mTail);
+    }
+    final int entry = mFreeHead;
+    mFreeHead = mNext[entry];
+    return entry;
+  }
+
+  private void removeEntry(int entry) {
+    unlink(entry);
+    removeFromTable(entry);
+    mValues[entry] = null;
+    mSize -= mSizes[entry];
+    mNext[entry] = mFreeHead;
+    mFreeHead = entry;
+  }
+
+  private int findEntry(long key) {
+    int slot = slotOf(key);
+    int stored;
+    while ((stored = mTable[slot]) != 0) {
+      if (mKeys[stored - 1] == key) {
+        return stored - 1;
+      }
+      slot = (slot + 1) & mMask;
+    }
+    return NONE;
+  }
+
+  private void insertIntoTable(int entry) {
+    int slot = slotOf(mKeys[entry]);
+    while (mTable[slot] != 0) {
+      slot = (slot + 1) & mMask;
+    }
+    mTable[slot] = entry + 1;
+  }
+
+  private void removeFromTable(int entry) {
+    int slot = slotOf(mKeys[entry]);
+    while (mTable[slot] != entry + 1) {
+      slot = (slot + 1) & mMask;
+    }
+
+    // Backward-shift the rest of the probe run so lookups never stop at the freed slot.
+    int next = (slot + 1) & mMask;
+    int stored;
+    while ((stored = mTable[next]) != 0) {
+      final int home = slotOf(mKeys[stored - 1]);
+      if (((next - home) & mMask) >= ((next - slot) & mMask)) {
+        mTable[slot] = stored;
+        slot = next;
+      }
+      next = (next + 1) & mMask;
+    }
+    mTable[slot] = 0;
+  }
+
+  private int slotOf(long key) {
+    long hash = key * 0x9E3779B97F4A7C15L;
+    return (int) (hash ^ (hash >>> 32)) & mMask;
+  }
+
+  private void moveToHead(int entry) {
+    if (entry != mHead) {
+      unlink(entry);
+      linkAtHead(entry);
+    }
+  }
+
+  private void linkAtHead(int entry) {
+    mPrevious[entry] = NONE;
+    mNext[entry] = mHead;
+    if (mHead != NONE) {
+      mPrevious[mHead] = entry;
+    }
+    mHead = entry;
+    if (mTail == NONE) {
+      mTail = entry;
+    }
+  }
+
+  private void unlink(int entry) {
+    final int previous = mPrevious[entry];
+    final int next = mNext[entry];
+    if (previous != NONE) {
+      mNext[previous] = next;
+    } else {
+      mHead = next;
+    }
+    if (next != NONE) {
+      mPrevious[next] = previous;
+    } else {
+      mTail = previous;
+    }
+  }
+}
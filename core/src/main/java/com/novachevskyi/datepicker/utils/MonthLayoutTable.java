@@ -0,0 +1,111 @@
+package com.novachevskyi.datepicker.utils;
+
+public final class MonthLayoutTable {
+
+  public static final int DAYS_IN_WEEK = 7;
+
+  private static final int MONTHS_IN_YEAR = 12;
+  private static final int CHUNK_YEARS = 16;
+  private static final int CHUNK_MONTHS = CHUNK_YEARS * MONTHS_IN_YEAR;
+
+  private static final int OFFSET_MASK = 0x7;
+  private static final int DAYS_SHIFT = 3;
+  private static final int DAYS_MASK = 0x1f;
+  private static final int ROWS_SHIFT = 8;
+  private static final int ROWS_MASK = 0x7;
+
+  private static MonthLayoutTable sInstance;
+
+  private final int mMinYear;
+  private final int mMaxYear;
+  private final int mWeekStart;
+  private final int[][] mChunks;
+
+  private MonthLayoutTable(int minYear, int maxYear, int weekStart) {
+    mMinYear = minYear;
+    mMaxYear = maxYear;
+    mWeekStart = weekStart;
+
+    final int months = (maxYear - minYear + 1) * MONTHS_IN_YEAR;
+    mChunks = new int[(months + CHUNK_MONTHS - 1) / CHUNK_MONTHS][];
+  }
+
+  public static MonthLayoutTable getInstance(int minYear, int maxYear, int weekStart) {
+    MonthLayoutTable table = sInstance;
+    if (table == null || table.mMinYear != minYear || table.mMaxYear != maxYear
+        || table.mWeekStart != weekStart) {
+      table = new MonthLayoutTable(minYear, maxYear, weekStart);
+      sInstance = table;
+    }
+    return table;
+  }
+
+  public int getMinYear() {
+    return mMinYear;
+  }
+
+  public int getMaxYear() {
+    return mMaxYear;
+  }
+
+  public int getWeekStart() {
+    return mWeekStart;
+  }
+
+  public int getLayout(int year, int month) {
+    if (year < mMinYear || year > mMaxYear) {
+      return computeLayout(year, month, mWeekStart);
+    }
+
+    final int index = (year - mMinYear) * MONTHS_IN_YEAR + month;
+    int[] chunk = mChunks[index / CHUNK_MONTHS];
+    if (chunk == null) {
+      chunk = buildChunk(index / CHUNK_MONTHS);
+      mChunks[index / CHUNK_MONTHS] = chunk;
+    }
+    return chunk[index % CHUNK_MONTHS];
+  }
+
+  private int[] buildChunk(int chunkIndex) {
+    final int[] chunk = new int[CHUNK_MONTHS];
+    final int firstIndex = chunkIndex * CHUNK_MONTHS;
+    final int maxIndex = (mMaxYear - mMinYear + 1) * MONTHS_IN_YEAR;
+    for (int i = 0; i < CHUNK_MONTHS && firstIndex + i < maxIndex; i++) {
+      final int index = firstIndex + i;
+      chunk[i] = computeLayout(mMinYear + index / MONTHS_IN_YEAR, index % MONTHS_IN_YEAR,
+          mWeekStart);
+    }
+    return chunk;
+  }
+
+  public static int computeLayout(int year, int month, int weekStart) {
+    final int dayOfWeekStart = CalendarMath.getDayOfWeek(year, month, 1);
+    final int daysInMonth = CalendarMath.getDaysInMonth(year, month);
+
+    final int offset = (dayOfWeekStart < weekStart ? (dayOfWeekStart + DAYS_IN_WEEK)
+        : dayOfWeekStart) - weekStart;
+    final int rows = (offset + daysInMonth + DAYS_IN_WEEK - 1) / DAYS_IN_WEEK;
+    return offset | (daysInMonth << DAYS_SHIFT) | (rows << ROWS_SHIFT);
+  }
+
+  public static int getDayOffset(int layout) {
+    return layout & OFFSET_MASK;
+  }
+
+  public static int getDaysInMonth(int layout) {
+    return (layout >> DAYS_SHIFT) & DAYS_MASK;
+  }
+
+  public static int getNumRows(int layout) {
+    return (layout >> ROWS_SHIFT) & ROWS_MASK;
+  }
+
+  public static int getDayAt(int row, int column, int columns, int dayOffset,
+      int daysInMonth) {
+    final int day = row * columns + column - dayOffset + 1;
+    if (day < 1 || day > daysInMonth) {
+      return -1;
+    }
+    return day;
+  }
+}
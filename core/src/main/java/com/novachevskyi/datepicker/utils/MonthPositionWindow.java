@@ -0,0 +1,88 @@
+package com.novachevskyi.datepicker.utils;
+
+public final class MonthPositionWindow {
+
+  public static final int DEFAULT_WINDOW_MONTHS = 100 * CalendarMath.MONTHS_IN_YEAR;
+
+  private static final int EDGE_FRACTION = 4;
+
+  private int mWindowMonths;
+  private int mMinMonth;
+  private int mMaxMonth;
+  private int mOrigin;
+
+  public MonthPositionWindow() {
+    this(DEFAULT_WINDOW_MONTHS);
+  }
+
+  public MonthPositionWindow(int windowMonths) {
+    setWindowMonths(windowMonths);
+  }
+
+  public void setWindowMonths(int windowMonths) {
+    if (windowMonths < EDGE_FRACTION * CalendarMath.MONTHS_IN_YEAR) {
+      throw new IllegalArgumentException("Window must span at least "
+          + EDGE_FRACTION * CalendarMath.MONTHS_IN_YEAR + " months");
+    }
+    mWindowMonths = windowMonths;
+    setOrigin(mOrigin);
+  }
+
+  public boolean setYearRange(int minYear, int maxYear) {
+    final int minMonth = CalendarMath.toMonthIndex(minYear, 0);
+    final int maxMonth = CalendarMath.toMonthIndex(maxYear, CalendarMath.MONTHS_IN_YEAR - 1);
+    if (minMonth == mMinMonth && maxMonth == mMaxMonth) {
+      return false;
+    }
+    final boolean initialized = mMaxMonth > mMinMonth;
+    mMinMonth = minMonth;
+    mMaxMonth = maxMonth;
+    setOrigin(initialized ? mOrigin : minMonth);
+    return true;
+  }
+
+  public int getCount() {
+    return Math.min(mWindowMonths, mMaxMonth - mMinMonth + 1);
+  }
+
+  public int getMonthIndex(int position) {
+    return mOrigin + position;
+  }
+
+  public int getYear(int position) {
+    return CalendarMath.getYearOfMonthIndex(mOrigin + position);
+  }
+
+  public int getMonth(int position) {
+    return CalendarMath.getMonthOfMonthIndex(mOrigin + position);
+  }
+
+  public int getPosition(int monthIndex) {
+    return monthIndex - mOrigin;
+  }
+
+  public int getPosition(int year, int month) {
+    return CalendarMath.toMonthIndex(year, month) - mOrigin;
+  }
+
+  public boolean contains(int monthIndex) {
+    return monthIndex >= mOrigin && monthIndex < mOrigin + getCount();
+  }
+
+  public boolean isNearEdge(int firstPosition, int lastPosition) {
+    final int count = getCount();
+    final int edge = count / EDGE_FRACTION;
+    return (firstPosition < edge && mOrigin > mMinMonth)
+        || (lastPosition >= count - edge && mOrigin + count - 1 < mMaxMonth);
+  }
+
+  public int recenter(int monthIndex) {
+    final int previousOrigin = mOrigin;
+    setOrigin(monthIndex - getCount() / 2);
+    return mOrigin - previousOrigin;
+  }
+
+  private void setOrigin(int origin) {
+    mOrigin = Math.max(mMinMonth, Math.min(mMaxMonth - getCount() + 1, origin));
+  }
+}
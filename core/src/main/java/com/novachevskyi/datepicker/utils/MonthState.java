@@ -0,0 +1,209 @@
+package com.novachevskyi.datepicker.utils;
+
+public final class MonthState {
+
+  public static final int NO_DAY = -1;
+
+  // DateUtils.FORMAT_SHOW_DATE | FORMAT_SHOW_YEAR | FORMAT_NO_MONTH_DAY. Kept here so the
+  // benchmarks key titles exactly like MonthView without depending on Android.
+  public static final int MONTH_TITLE_FLAGS = 0x10 | 0x04 | 0x20;
+
+  private static final int MAX_NUM_ROWS = 6;
+  private static final int MAX_DAYS = 31;
+
+  private int mYear;
+  private int mMonth;
+  private int mSelectedDay = NO_DAY;
+  private int mToday = NO_DAY;
+  private int mDayOffset;
+  private int mNumCells = MonthLayoutTable.DAYS_IN_WEEK;
+  private int mNumRows = MAX_NUM_ROWS;
+  private int mFirstEpochDay;
+  private int mDisabledDays;
+  private int mSelectedDays;
+  private int mRangeFirstDay = NO_DAY;
+  private int mRangeLastDay = NO_DAY;
+  private int mRangeStartDay = NO_DAY;
+  private int mRangeEndDay = NO_DAY;
+
+  public static long getTitleKey(int monthIndex, int flags) {
+    return ((long) flags << 32) | (monthIndex & 0xffffffffL);
+  }
+
+  public void setMonth(int year, int month, int selectedDay, int weekStart, TodaySnapshot today,
+      MonthLayoutTable layoutTable, EpochDaySet disabledDays, EpochDaySet selectedDays) {
+    mYear = year;
+    mMonth = month;
+    mSelectedDay = selectedDay;
+    mToday = today.getDayInMonth(year, month);
+
+    final int layout;
+    if (layoutTable != null && layoutTable.getWeekStart() == weekStart) {
+      layout = layoutTable.getLayout(year, month);
+    } else {
+      layout = MonthLayoutTable.computeLayout(year, month, weekStart);
+    }
+    mDayOffset = MonthLayoutTable.getDayOffset(layout);
+    mNumCells = MonthLayoutTable.getDaysInMonth(layout);
+    mNumRows = MonthLayoutTable.getNumRows(layout);
+
+    mFirstEpochDay = CalendarMath.toEpochDay(year, month, 1);
+    mDisabledDays = getMonthMask(disabledDays);
+    mSelectedDays = getMonthMask(selectedDays);
+    mRangeFirstDay = NO_DAY;
+    mRangeLastDay = NO_DAY;
+    mRangeStartDay = NO_DAY;
+    mRangeEndDay = NO_DAY;
+  }
+
+  public boolean setSelectedDay(int day) {
+    if (day == mSelectedDay) {
+      return false;
+    }
+    mSelectedDay = day;
+    return true;
+  }
+
+  public int refreshSelectedDays(EpochDaySet selectedDays) {
+    final int mask = getMonthMask(selectedDays);
+    final int changedDays = mask ^ mSelectedDays;
+    mSelectedDays = mask;
+    return changedDays;
+  }
+
+  public boolean setSelectedRange(int startEpochDay, int endEpochDay) {
+    int firstDay = NO_DAY;
+    int lastDay = NO_DAY;
+    int startDay = NO_DAY;
+    int endDay = NO_DAY;
+
+    if (startEpochDay != EpochDaySet.NO_DAY) {
+      final int lastEpochDay = mFirstEpochDay + mNumCells - 1;
+      final int rangeEnd = endEpochDay != EpochDaySet.NO_DAY ? endEpochDay : startEpochDay;
+      if (startEpochDay <= lastEpochDay && rangeEnd >= mFirstEpochDay) {
+        firstDay = Math.max(startEpochDay, mFirstEpochDay) - mFirstEpochDay + 1;
+        lastDay = Math.min(rangeEnd, lastEpochDay) - mFirstEpochDay + 1;
+        if (startEpochDay >= mFirstEpochDay) {
+          startDay = firstDay;
+        }
+        if (rangeEnd <= lastEpochDay) {
+          endDay = lastDay;
+        }
+      }
+    }
+
+    if (firstDay == mRangeFirstDay && lastDay == mRangeLastDay && startDay == mRangeStartDay
+        && endDay == mRangeEndDay) {
+      return false;
+    }
+    mRangeFirstDay = firstDay;
+    mRangeLastDay = lastDay;
+    mRangeStartDay = startDay;
+    mRangeEndDay = endDay;
+    return true;
+  }
+
+  public int getYear() {
+    return mYear;
+  }
+
+  public int getMonth() {
+    return mMonth;
+  }
+
+  public int getSelectedDay() {
+    return mSelectedDay;
+  }
+
+  public int getToday() {
+    return mToday;
+  }
+
+  public boolean hasToday() {
+    return mToday != NO_DAY;
+  }
+
+  public int getDayOffset() {
+    return mDayOffset;
+  }
+
+  public int getNumCells() {
+    return mNumCells;
+  }
+
+  public int getNumRows() {
+    return mNumRows;
+  }
+
+  public int getFirstEpochDay() {
+    return mFirstEpochDay;
+  }
+
+  public int getDisabledDays() {
+    return mDisabledDays;
+  }
+
+  public int getSelectedDays() {
+    return mSelectedDays;
+  }
+
+  public int getRangeFirstDay() {
+    return mRangeFirstDay;
+  }
+
+  public int getRangeLastDay() {
+    return mRangeLastDay;
+  }
+
+  public int getRangeStartDay() {
+    return mRangeStartDay;
+  }
+
+  public int getRangeEndDay() {
+    return mRangeEndDay;
+  }
+
+  public int getDayIndex(int day) {
+    return day - 1 + mDayOffset;
+  }
+
+  public boolean isDayDisabled(int day) {
+    return (mDisabledDays & dayBit(day)) != 0;
+  }
+
+  public boolean isDaySelected(int day) {
+    return (mSelectedDays & dayBit(day)) != 0;
+  }
+
+  public boolean isDayInRange(int day) {
+    return day >= mRangeFirstDay && day <= mRangeLastDay;
+  }
+
+  public boolean isDynamicDay(int day) {
+    return (getDynamicDays() & dayBit(day)) != 0;
+  }
+
+  // Days whose look depends on selection, today or the range rather than only on the month.
+  public int getDynamicDays() {
+    int days = mSelectedDays;
+    if (mSelectedDay >= 1 && mSelectedDay <= mNumCells) {
+      days |= dayBit(mSelectedDay);
+    }
+    if (mToday != NO_DAY) {
+      days |= dayBit(mToday);
+    }
+    if (mRangeFirstDay != NO_DAY) {
+      days |= ((1 << (mRangeLastDay - 1)) | ((1 << (mRangeLastDay - 1)) - 1))
+          & ~((1 << (mRangeFirstDay - 1)) - 1);
+    }
+    return days;
+  }
+
+  private int getMonthMask(EpochDaySet days) {
+    return days != null ? days.getMonthMask(mFirstEpochDay, mNumCells) : 0;
+  }
+
+  private static int dayBit(int day) {
+    return day >= 1 && day <= MAX_DAYS ? 1 << (day - 1) : 0;
+  }
+}
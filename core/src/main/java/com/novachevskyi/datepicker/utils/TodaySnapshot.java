@@ -0,0 +1,84 @@
+package com.novachevskyi.datepicker.utils;
+
+import java.util.TimeZone;
+
+public class TodaySnapshot {
+
+  private static TodaySnapshot sDefault;
+
+  private Clock mClock;
+
+  private int mYear;
+  private int mMonth;
+  private int mDay;
+  private long mNextDayMillis;
+
+  public TodaySnapshot(Clock clock) {
+    mClock = clock;
+    refresh();
+  }
+
+  public static TodaySnapshot getDefault() {
+    if (sDefault == null) {
+      sDefault = new TodaySnapshot(Clock.SYSTEM);
+    } else {
+      sDefault.refreshIfNeeded();
+    }
+    return sDefault;
+  }
+
+  public void setClock(Clock clock) {
+    mClock = clock;
+    refresh();
+  }
+
+  public Clock getClock() {
+    return mClock;
+  }
+
+  public boolean refresh() {
+    final TimeZone zone = mClock.getTimeZone();
+    final int epochDay = CalendarMath.toEpochDay(mClock.currentTimeMillis(), zone);
+    final int packedDate = CalendarMath.toPackedDate(epochDay);
+
+    final int year = CalendarMath.getPackedYear(packedDate);
+    final int month = CalendarMath.getPackedMonth(packedDate);
+    final int day = CalendarMath.getPackedDay(packedDate);
+
+    mNextDayMillis = CalendarMath.toLocalMillis(epochDay + 1, 0, zone);
+
+    final boolean changed = year != mYear || month != mMonth || day != mDay;
+    mYear = year;
+    mMonth = month;
+    mDay = day;
+    return changed;
+  }
+
+  public boolean refreshIfNeeded() {
+    return mClock.currentTimeMillis() >= mNextDayMillis && refresh();
+  }
+
+  public long getMillisUntilNextDay() {
+    return Math.max(0, mNextDayMillis - mClock.currentTimeMillis());
+  }
+
+  public int getYear() {
+    return mYear;
+  }
+
+  public int getMonth() {
+    return mMonth;
+  }
+
+  public int getDay() {
+    return mDay;
+  }
+
+  public boolean isInMonth(int year, int month) {
+    return mYear == year && mMonth == month;
+  }
+
+  public int getDayInMonth(int year, int month) {
+    return isInMonth(year, month) ? mDay : -1;
+  }
+}
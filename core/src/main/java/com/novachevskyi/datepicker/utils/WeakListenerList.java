@@ -0,0 +1,73 @@
+package com.novachevskyi.datepicker.utils;
+
+import java.lang.ref.WeakReference;
+
+public final class WeakListenerList<T> {
+
+  private WeakReference<T>[] mListeners = newArray(0);
+
+  public void add(T listener) {
+    if (listener == null) {
+      throw new IllegalArgumentException("Listener must not be null");
+    }
+    if (indexOf(listener) >= 0) {
+      return;
+    }
+    final WeakReference<T>[] listeners = copyLive(null, 1);
+    listeners[listeners.length - 1] = new WeakReference<>(listener);
+    mListeners = listeners;
+  }
+
+  public void remove(T listener) {
+    if (indexOf(listener) >= 0) {
+      mListeners = copyLive(listener, 0);
+    }
+  }
+
+  public int size() {
+    int size = 0;
+    for (WeakReference<T> reference : mListeners) {
+      if (reference.get() != null) {
+        size++;
+      }
+    }
+    return size;
+  }
+
+  public WeakReference<T>[] getSnapshot() {
+    return mListeners;
+  }
+
+  private int indexOf(T listener) {
+    final WeakReference<T>[] listeners = mListeners;
+    for (int i = 0; i < listeners.length; i++) {
+      if (listeners[i].get() == listener) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private WeakReference<T>[] copyLive(T excluded, int extra) {
+    final WeakReference<T>[] listeners = mListeners;
+    WeakReference<T>[] copy = newArray(listeners.length + extra);
+    int n = 0;
+    for (WeakReference<T> reference : listeners) {
+      final T listener = reference.get();
+      if (listener != null && listener != excluded) {
+        copy[n++] = reference;
+      }
+    }
+    if (n + extra < copy.length) {
+      final WeakReference<T>[] trimmed = newArray(n + extra);
+      System.arraycopy(copy, 0, trimmed, 0, n);
+      copy = trimmed;
+    }
+    return copy;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> WeakReference<T>[] newArray(int length) {
+    return (WeakReference<T>[]) new WeakReference<?>[length];
+  }
+}
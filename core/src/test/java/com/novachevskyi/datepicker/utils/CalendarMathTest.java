@@ -0,0 +1,60 @@
+package com.novachevskyi.datepicker.utils;
+
+import static org.junit.Assert.assertEquals;
+
+import java.time.LocalDate;
+import java.util.Calendar;
+import org.junit.Test;
+
+public class CalendarMathTest {
+
+  private static final int MIN_YEAR = 1;
+  private static final int MAX_YEAR = 9999;
+
+  @Test
+  public void epochDayMatchesJavaTime() {
+    for (int year = MIN_YEAR; year <= MAX_YEAR; year++) {
+      for (int month = 0; month < CalendarMath.MONTHS_IN_YEAR; month++) {
+        final int daysInMonth = CalendarMath.getDaysInMonth(year, month);
+        assertEquals(LocalDate.of(year, month + 1, 1).lengthOfMonth(), daysInMonth);
+
+        for (int day = 1; day <= daysInMonth; day++) {
+          final LocalDate date = LocalDate.of(year, month + 1, day);
+          final int epochDay = CalendarMath.toEpochDay(year, month, day);
+          assertEquals(date.toEpochDay(), epochDay);
+          assertEquals(year, CalendarMath.getYear(epochDay));
+          assertEquals(month, CalendarMath.getMonth(epochDay));
+          assertEquals(day, CalendarMath.getDayOfMonth(epochDay));
+          assertEquals(date.getDayOfWeek().getValue() % 7 + Calendar.SUNDAY,
+              CalendarMath.getDayOfWeek(epochDay));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void packedDateRoundTrips() {
+    final int firstEpochDay = (int) LocalDate.of(MIN_YEAR, 1, 1).toEpochDay();
+    final int lastEpochDay = (int) LocalDate.of(MAX_YEAR, 12, 31).toEpochDay();
+    for (int epochDay = firstEpochDay; epochDay <= lastEpochDay; epochDay++) {
+      final LocalDate date = LocalDate.ofEpochDay(epochDay);
+      final int packedDate = CalendarMath.toPackedDate(epochDay);
+      assertEquals(date.getYear(), CalendarMath.getPackedYear(packedDate));
+      assertEquals(date.getMonthValue() - 1, CalendarMath.getPackedMonth(packedDate));
+      assertEquals(date.getDayOfMonth(), CalendarMath.getPackedDay(packedDate));
+      assertEquals(packedDate, CalendarMath.packDate(date.getYear(), date.getMonthValue() - 1,
+          date.getDayOfMonth()));
+    }
+  }
+
+  @Test
+  public void monthIndexRoundTrips() {
+    for (int year = MIN_YEAR; year <= MAX_YEAR; year++) {
+      for (int month = 0; month < CalendarMath.MONTHS_IN_YEAR; month++) {
+        final int monthIndex = CalendarMath.toMonthIndex(year, month);
+        assertEquals(year, CalendarMath.getYearOfMonthIndex(monthIndex));
+        assertEquals(month, CalendarMath.getMonthOfMonthIndex(monthIndex));
+      }
+    }
+  }
+}
@@ -0,0 +1,70 @@
+package com.novachevskyi.datepicker.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assume.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Locale;
+import org.junit.Test;
+
+public class DayNumberStringsTest {
+
+  private static final int WARMUP_ROUNDS = 20000;
+  private static final int MEASURED_ROUNDS = 1000;
+
+  @Test
+  public void formatsDayNumbersForLocale() {
+    final DayNumberStrings strings = DayNumberStrings.getInstance();
+    for (int day = 1; day <= DayNumberStrings.MAX_DAY_NUMBER; day++) {
+      assertEquals(String.format(strings.getLocale(), "%d", day), strings.get(day));
+    }
+  }
+
+  @Test
+  public void rebuildsOnlyWhenLocaleChanges() {
+    final Locale original = Locale.getDefault();
+    try {
+      Locale.setDefault(Locale.US);
+      final DayNumberStrings strings = DayNumberStrings.getInstance();
+      assertSame(strings, DayNumberStrings.getInstance());
+
+      Locale.setDefault(Locale.GERMANY);
+      assertEquals(Locale.GERMANY, DayNumberStrings.getInstance().getLocale());
+    } finally {
+      Locale.setDefault(original);
+    }
+  }
+
+  // MonthView.onDraw fetches the instance once per draw and a string per day cell; neither may
+  // allocate once the table for the current locale exists.
+  @Test
+  public void drawLookupsDoNotAllocate() {
+    final ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+    assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+    final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+    assumeTrue(threads.isThreadAllocatedMemorySupported());
+    threads.setThreadAllocatedMemoryEnabled(true);
+
+    final long threadId = Thread.currentThread().getId();
+    int checksum = drawLookups(WARMUP_ROUNDS);
+    final long before = threads.getThreadAllocatedBytes(threadId);
+    checksum += drawLookups(MEASURED_ROUNDS);
+    final long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+    assertEquals("bytes allocated by " + MEASURED_ROUNDS + " month draws (" + checksum + ")",
+        0, allocated);
+  }
+
+  private static int drawLookups(int rounds) {
+    int checksum = 0;
+    for (int i = 0; i < rounds; i++) {
+      final DayNumberStrings strings = DayNumberStrings.getInstance();
+      for (int day = 1; day <= DayNumberStrings.MAX_DAY_NUMBER; day++) {
+        checksum += strings.get(day).length();
+      }
+    }
+    return checksum;
+  }
+}
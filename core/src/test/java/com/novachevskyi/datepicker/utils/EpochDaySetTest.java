@@ -0,0 +1,203 @@
+package com.novachevskyi.datepicker.utils;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+import org.junit.Test;
+
+public class EpochDaySetTest {
+
+  @Test
+  public void wordsRoundTrip() {
+    final EpochDaySet days = new EpochDaySet(-100, 1000);
+    days.add(-100);
+    days.addRange(60, 200);
+    days.add(1000);
+
+    final EpochDaySet restored = new EpochDaySet(-100, 1000);
+    restored.setWords(days.toWords());
+
+    assertArrayEquals(days.toArray(), restored.toArray());
+  }
+
+  @Test
+  public void setWordsIgnoresBitsPastLastDay() {
+    final EpochDaySet days = new EpochDaySet(0, 9);
+    days.setWords(new long[] {-1L});
+    assertEquals(10, days.size());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void setWordsRejectsOtherBounds() {
+    new EpochDaySet(0, 9).setWords(new long[2]);
+  }
+
+  @Test
+  public void monthMaskSpansWordBoundary() {
+    final EpochDaySet days = new EpochDaySet(0, 199);
+    days.add(60);
+    days.add(63);
+    days.add(64);
+    days.add(80);
+
+    assertEquals((1 << 10) | (1 << 13) | (1 << 14) | (1 << 30), days.getMonthMask(50, 31));
+    assertEquals(1 | (1 << 16), days.getMonthMask(64, 30));
+    assertEquals((1 << 26) | (1 << 29) | (1 << 30), days.getMonthMask(34, 31));
+  }
+
+  @Test
+  public void monthMaskClipsToBounds() {
+    final EpochDaySet days = new EpochDaySet(-5, 70);
+    days.add(-5);
+    days.add(70);
+
+    assertEquals(1 << 5, days.getMonthMask(-10, 31));
+    assertEquals(1 << 10, days.getMonthMask(60, 31));
+    assertEquals(0, days.getMonthMask(71, 31));
+  }
+
+  @Test
+  public void addRangeSpansWords() {
+    final EpochDaySet days = new EpochDaySet(0, 199);
+    days.addRange(10, 140);
+
+    assertEquals(131, days.size());
+    assertEquals(10, days.nextSetDay(0));
+    assertEquals(141, days.nextClearDay(10));
+    assertEquals(140, days.previousSetDay(199));
+    assertEquals(9, days.previousClearDay(140));
+
+    days.addRange(-50, 300);
+    assertEquals(200, days.size());
+  }
+
+  @Test
+  public void scansStartAtWordBoundary() {
+    final EpochDaySet days = new EpochDaySet(0, 199);
+    days.add(63);
+    days.add(64);
+
+    assertEquals(63, days.nextSetDay(63));
+    assertEquals(64, days.nextSetDay(64));
+    assertEquals(EpochDaySet.NO_DAY, days.nextSetDay(65));
+    assertEquals(65, days.nextClearDay(63));
+    assertEquals(65, days.nextClearDay(64));
+    assertEquals(64, days.previousSetDay(64));
+    assertEquals(63, days.previousSetDay(63));
+    assertEquals(EpochDaySet.NO_DAY, days.previousSetDay(62));
+    assertEquals(62, days.previousClearDay(63));
+    assertEquals(62, days.previousClearDay(64));
+
+    days.remove(63);
+    assertEquals(64, days.nextSetDay(0));
+    assertEquals(EpochDaySet.NO_DAY, days.previousSetDay(63));
+
+    days.add(63);
+    days.remove(64);
+    assertEquals(EpochDaySet.NO_DAY, days.nextSetDay(64));
+    assertEquals(63, days.previousSetDay(199));
+  }
+
+  @Test
+  public void scansStopAtRangeEnds() {
+    // Two full words, so the ends fall on the first and last bit.
+    final EpochDaySet days = new EpochDaySet(-10, 117);
+    days.add(-10);
+    days.add(117);
+
+    assertEquals(-10, days.nextSetDay(-20));
+    assertEquals(117, days.nextSetDay(-9));
+    assertEquals(EpochDaySet.NO_DAY, days.nextSetDay(118));
+    assertEquals(117, days.previousSetDay(200));
+    assertEquals(-10, days.previousSetDay(116));
+    assertEquals(EpochDaySet.NO_DAY, days.previousSetDay(-11));
+    assertEquals(-9, days.nextClearDay(-10));
+    assertEquals(116, days.previousClearDay(117));
+
+    days.addRange(-10, 117);
+    assertEquals(118, days.nextClearDay(-10));
+    assertEquals(-11, days.previousClearDay(117));
+    assertEquals(200, days.nextClearDay(200));
+    assertEquals(-20, days.previousClearDay(-20));
+  }
+
+  @Test
+  public void matchesBooleanArrayUnderRandomContents() {
+    final int first = -37;
+    final int last = 300;
+    final EpochDaySet days = new EpochDaySet(first, last);
+    final boolean[] expected = new boolean[last - first + 1];
+
+    final Random random = new Random(42);
+    for (int round = 0; round < 50; round++) {
+      final int from = first + random.nextInt(expected.length);
+      final int to = from + random.nextInt(80);
+      final boolean value = random.nextBoolean();
+      if (value) {
+        days.addRange(from, to);
+      } else {
+        days.removeRange(from, to);
+      }
+      for (int day = from; day <= Math.min(to, last); day++) {
+        expected[day - first] = value;
+      }
+
+      for (int day = first; day <= last; day++) {
+        assertEquals(expectedNextSet(expected, first, day), days.nextSetDay(day));
+        assertEquals(expectedNextClear(expected, first, day), days.nextClearDay(day));
+        assertEquals(expectedPreviousSet(expected, first, day), days.previousSetDay(day));
+        assertEquals(expectedPreviousClear(expected, first, day), days.previousClearDay(day));
+        assertEquals(expectedMonthMask(expected, first, day, 31), days.getMonthMask(day, 31));
+      }
+    }
+  }
+
+  private static boolean isSet(boolean[] expected, int first, int day) {
+    return day >= first && day - first < expected.length && expected[day - first];
+  }
+
+  private static int expectedNextSet(boolean[] expected, int first, int from) {
+    for (int day = from; day - first < expected.length; day++) {
+      if (isSet(expected, first, day)) {
+        return day;
+      }
+    }
+    return EpochDaySet.NO_DAY;
+  }
+
+  private static int expectedNextClear(boolean[] expected, int first, int from) {
+    int day = from;
+    while (isSet(expected, first, day)) {
+      day++;
+    }
+    return day;
+  }
+
+  private static int expectedPreviousSet(boolean[] expected, int first, int from) {
+    for (int day = from; day >= first; day--) {
+      if (isSet(expected, first, day)) {
+        return day;
+      }
+    }
+    return EpochDaySet.NO_DAY;
+  }
+
+  private static int expectedPreviousClear(boolean[] expected, int first, int from) {
+    int day = from;
+    while (isSet(expected, first, day)) {
+      day--;
+    }
+    return day;
+  }
+
+  private static int expectedMonthMask(boolean[] expected, int first, int firstDay, int length) {
+    int mask = 0;
+    for (int i = 0; i < length; i++) {
+      if (isSet(expected, first, firstDay + i)) {
+        mask |= 1 << i;
+      }
+    }
+    return mask;
+  }
+}
@@ -0,0 +1,132 @@
+package com.novachevskyi.datepicker.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.Test;
+
+public class LongLruCacheTest {
+
+  @Test
+  public void evictsLeastRecentlyUsedEntry() {
+    final LongLruCache<String> cache = new LongLruCache<>(2);
+    cache.put(1, "a");
+    cache.put(2, "b");
+    assertEquals("a", cache.get(1));
+
+    cache.put(3, "c");
+
+    assertNull(cache.get(2));
+    assertEquals("a", cache.get(1));
+    assertEquals("c", cache.get(3));
+    assertEquals(2, cache.size());
+  }
+
+  @Test
+  public void putReplacesExistingValue() {
+    final LongLruCache<String> cache = new LongLruCache<>(4);
+    assertNull(cache.put(Long.MIN_VALUE, "a"));
+    assertEquals("a", cache.put(Long.MIN_VALUE, "b"));
+    assertEquals("b", cache.get(Long.MIN_VALUE));
+    assertEquals(1, cache.size());
+  }
+
+  @Test
+  public void evictAllClearsEntriesAndKeepsCounts() {
+    final LongLruCache<String> cache = new LongLruCache<>(4);
+    cache.put(7, "a");
+    cache.get(7);
+    cache.get(8);
+
+    cache.evictAll();
+
+    assertEquals(0, cache.size());
+    assertNull(cache.get(7));
+    assertEquals(1, cache.hitCount());
+    assertEquals(2, cache.missCount());
+  }
+
+  @Test
+  public void evictsBySizeWithinEntryCapacity() {
+    final LongLruCache<String> cache = new LongLruCache<String>(8, 10) {
+      @Override
+      protected int sizeOf(long key, String value) {
+        return value.length();
+      }
+    };
+    cache.put(1, "aaaa");
+    cache.put(2, "bbbb");
+    cache.put(3, "cc");
+    assertEquals(10, cache.size());
+
+    cache.put(4, "ddd");
+
+    assertNull(cache.get(1));
+    assertEquals(9, cache.size());
+
+    // Freed slots are reused and a replacement is re-measured.
+    assertEquals("cc", cache.put(3, "cccccc"));
+    assertNull(cache.get(2));
+    assertEquals(9, cache.size());
+    assertEquals("ddd", cache.get(4));
+    assertEquals("cccccc", cache.get(3));
+  }
+
+  @Test
+  public void evictsByEntryCapacityWithinSize() {
+    final LongLruCache<String> cache = new LongLruCache<>(2, 100);
+    cache.put(1, "a");
+    cache.put(2, "b");
+    cache.put(3, "c");
+
+    assertNull(cache.get(1));
+    assertEquals(2, cache.size());
+  }
+
+  @Test
+  public void dropsEntryLargerThanMaxSize() {
+    final LongLruCache<String> cache = new LongLruCache<String>(4, 3) {
+      @Override
+      protected int sizeOf(long key, String value) {
+        return value.length();
+      }
+    };
+    cache.put(1, "a");
+    cache.put(2, "bbbb");
+
+    assertNull(cache.get(1));
+    assertNull(cache.get(2));
+    assertEquals(0, cache.size());
+
+    cache.put(3, "cc");
+    assertEquals("cc", cache.get(3));
+  }
+
+  @Test
+  public void matchesAccessOrderedMapUnderRandomOperations() {
+    final int maxSize = 24;
+    final LongLruCache<Long> cache = new LongLruCache<>(maxSize);
+    final Map<Long, Long> expected = new LinkedHashMap<Long, Long>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Long, Long> eldest) {
+        return size() > maxSize;
+      }
+    };
+
+    final Random random = new Random(42);
+    for (int i = 0; i < 200000; i++) {
+      // Keys sharing low bits collide in the table and exercise the probe-run repair.
+      final long key = (long) random.nextInt(64) << (random.nextBoolean() ? 32 : 6);
+      if (random.nextInt(3) == 0) {
+        final Long value = (long) i;
+        assertEquals(expected.put(key, value), cache.put(key, value));
+      } else {
+        assertEquals(expected.get(key), cache.get(key));
+      }
+      assertEquals(expected.size(), cache.size());
+    }
+  }
+}
@@ -0,0 +1,84 @@
+package com.novachevskyi.datepicker.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Calendar;
+import java.util.TimeZone;
+import org.junit.Test;
+
+public class MonthStateTest {
+
+  private static final TodaySnapshot TODAY = new TodaySnapshot(new Clock() {
+    @Override
+    public long currentTimeMillis() {
+      return CalendarMath.toUtcMillis(CalendarMath.toEpochDay(2015, Calendar.JUNE, 10));
+    }
+
+    @Override
+    public TimeZone getTimeZone() {
+      return TimeZone.getTimeZone("UTC");
+    }
+  });
+
+  @Test
+  public void derivesLayoutAndToday() {
+    final MonthState state = new MonthState();
+    state.setMonth(2015, Calendar.JUNE, 3, Calendar.SUNDAY, TODAY, null, null, null);
+
+    assertEquals(30, state.getNumCells());
+    assertEquals(1, state.getDayOffset());
+    assertEquals(5, state.getNumRows());
+    assertEquals(10, state.getToday());
+    assertEquals(CalendarMath.toEpochDay(2015, Calendar.JUNE, 1), state.getFirstEpochDay());
+  }
+
+  @Test
+  public void clipsRangeToMonth() {
+    final MonthState state = new MonthState();
+    state.setMonth(2015, Calendar.JUNE, MonthState.NO_DAY, Calendar.SUNDAY, TODAY, null, null,
+        null);
+    final int firstEpochDay = state.getFirstEpochDay();
+
+    assertTrue(state.setSelectedRange(firstEpochDay - 5, firstEpochDay + 19));
+    assertEquals(1, state.getRangeFirstDay());
+    assertEquals(20, state.getRangeLastDay());
+    assertEquals(MonthState.NO_DAY, state.getRangeStartDay());
+    assertEquals(20, state.getRangeEndDay());
+    assertFalse(state.setSelectedRange(firstEpochDay - 5, firstEpochDay + 19));
+
+    assertTrue(state.setSelectedRange(firstEpochDay + 40, firstEpochDay + 50));
+    assertFalse(state.isDayInRange(1));
+  }
+
+  @Test
+  public void dynamicDaysCoverSelectionTodayAndRange() {
+    final EpochDaySet selected = new EpochDaySet(0, 30000);
+    final int firstEpochDay = CalendarMath.toEpochDay(2015, Calendar.JUNE, 1);
+    selected.add(firstEpochDay + 29);
+
+    final MonthState state = new MonthState();
+    state.setMonth(2015, Calendar.JUNE, 3, Calendar.SUNDAY, TODAY, null, null, selected);
+    state.setSelectedRange(firstEpochDay + 14, firstEpochDay + 16);
+
+    final int expected = (1 << 2) | (1 << 9) | (7 << 14) | (1 << 29);
+    assertEquals(expected, state.getDynamicDays());
+    for (int day = 1; day <= state.getNumCells(); day++) {
+      assertEquals((expected & (1 << (day - 1))) != 0, state.isDynamicDay(day));
+    }
+  }
+
+  @Test
+  public void reportsChangedSelectedDays() {
+    final EpochDaySet selected = new EpochDaySet(0, 30000);
+    final MonthState state = new MonthState();
+    state.setMonth(2015, Calendar.JUNE, MonthState.NO_DAY, Calendar.SUNDAY, TODAY, null, null,
+        selected);
+
+    selected.add(state.getFirstEpochDay() + 4);
+    assertEquals(1 << 4, state.refreshSelectedDays(selected));
+    assertTrue(state.isDaySelected(5));
+    assertEquals(0, state.refreshSelectedDays(selected));
+  }
+}
@@ -0,0 +1,82 @@
+package com.novachevskyi.datepicker.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.ref.WeakReference;
+import org.junit.Test;
+
+public class WeakListenerListTest {
+
+  private static final int GC_ATTEMPTS = 50;
+
+  @Test
+  public void dropsListenerAfterGc() throws InterruptedException {
+    final WeakListenerList<Object> list = new WeakListenerList<>();
+    final Object retained = new Object();
+    list.add(retained);
+    final WeakReference<Object> collected = addUnreferenced(list);
+
+    for (int i = 0; i < GC_ATTEMPTS && collected.get() != null; i++) {
+      System.gc();
+      Thread.sleep(10);
+    }
+
+    assertNull(collected.get());
+    assertEquals(1, list.size());
+
+    // The next mutation prunes the cleared reference from the snapshot.
+    final Object added = new Object();
+    list.add(added);
+    list.remove(retained);
+    assertEquals(1, list.getSnapshot().length);
+    assertSame(added, list.getSnapshot()[0].get());
+  }
+
+  @Test
+  public void snapshotIsStableWhileListenersChange() {
+    final WeakListenerList<Object> list = new WeakListenerList<>();
+    final Object first = new Object();
+    final Object second = new Object();
+    final Object added = new Object();
+    list.add(first);
+    list.add(second);
+
+    final WeakReference<Object>[] snapshot = list.getSnapshot();
+    int visited = 0;
+    for (WeakReference<Object> reference : snapshot) {
+      list.remove(first);
+      list.add(added);
+      assertTrue(reference.get() == first || reference.get() == second);
+      visited++;
+    }
+
+    assertEquals(2, visited);
+    assertEquals(2, snapshot.length);
+    assertSame(first, snapshot[0].get());
+    assertSame(second, snapshot[1].get());
+    assertEquals(2, list.size());
+  }
+
+  @Test
+  public void addIsIdempotent() {
+    final WeakListenerList<Object> list = new WeakListenerList<>();
+    final Object listener = new Object();
+    list.add(listener);
+    list.add(listener);
+    assertEquals(1, list.size());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void rejectsNullListener() {
+    new WeakListenerList<>().add(null);
+  }
+
+  private static WeakReference<Object> addUnreferenced(WeakListenerList<Object> list) {
+    final Object listener = new Object();
+    list.add(listener);
+    return new WeakReference<>(listener);
+  }
+}
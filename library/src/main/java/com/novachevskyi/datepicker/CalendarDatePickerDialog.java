@@ -2,9 +2,16 @@ package com.novachevskyi.datepicker;
 
 import android.animation.ObjectAnimator;
 import android.app.Activity;
+import android.content.BroadcastReceiver;
+import android.content.Context;
+import android.content.Intent;
+import android.content.IntentFilter;
+import android.content.res.Configuration;
 import android.content.res.Resources;
 import android.os.Bundle;
+import android.os.Handler;
 import android.support.v4.app.DialogFragment;
+import android.support.v4.view.ViewCompat;
 import android.text.format.DateUtils;
 import android.view.LayoutInflater;
 import android.view.View;
@@ -17,15 +24,29 @@ import android.view.animation.Animation;
 import android.widget.Button;
 import android.widget.LinearLayout;
 import android.widget.TextView;
+import com.novachevskyi.datepicker.base.CalendarDate;
 import com.novachevskyi.datepicker.base.CalendarDatePickerController;
 import com.novachevskyi.datepicker.base.adapters.MonthAdapter;
 import com.novachevskyi.datepicker.base.animators.AccessibleDateAnimator;
-import com.novachevskyi.datepicker.base.views.DayPickerView;
+import com.novachevskyi.datepicker.base.decorations.DayDecorationProvider;
+import com.novachevskyi.datepicker.base.views.DayPicker;
+import com.novachevskyi.datepicker.base.views.RecyclerDayPickerView;
 import com.novachevskyi.datepicker.base.views.SimpleDayPickerView;
+import com.novachevskyi.datepicker.base.views.YearPickerView;
+import com.novachevskyi.datepicker.utils.CalendarMath;
+import com.novachevskyi.datepicker.utils.Clock;
+import com.novachevskyi.datepicker.utils.DayDescriptionCache;
+import com.novachevskyi.datepicker.utils.DayNumberCache;
+import com.novachevskyi.datepicker.utils.EpochDaySet;
+import com.novachevskyi.datepicker.utils.MonthTileCache;
+import com.novachevskyi.datepicker.utils.MonthTitleCache;
+import com.novachevskyi.datepicker.utils.TodaySnapshot;
 import com.novachevskyi.datepicker.utils.Utils;
+import com.novachevskyi.datepicker.utils.WeakListenerList;
+import com.novachevskyi.datepicker.utils.WeekdayLabels;
+import java.lang.ref.WeakReference;
 import java.text.SimpleDateFormat;
 import java.util.Calendar;
-import java.util.HashSet;
 import java.util.Locale;
 
 public class CalendarDatePickerDialog extends DialogFragment implements
@@ -35,22 +56,54 @@ public class CalendarDatePickerDialog extends DialogFragment implements
   private static final String KEY_SELECTED_MONTH = "month";
   private static final String KEY_SELECTED_DAY = "day";
   private static final String KEY_LIST_POSITION = "list_position";
+  private static final String KEY_LIST_POSITION_OFFSET = "list_position_offset";
+  private static final String KEY_CURRENT_VIEW = "current_view";
   private static final String KEY_WEEK_START = "week_start";
   private static final String KEY_YEAR_START = "year_start";
   private static final String KEY_YEAR_END = "year_end";
+  private static final String KEY_TILE_CACHE_ENABLED = "tile_cache_enabled";
+  private static final String KEY_SELECTION_MODE = "selection_mode";
+  private static final String KEY_RANGE_START = "range_start";
+  private static final String KEY_RANGE_END = "range_end";
+  private static final String KEY_MIN_RANGE_SPAN = "min_range_span";
+  private static final String KEY_MAX_RANGE_SPAN = "max_range_span";
+  private static final String KEY_SELECTED_DATES = "selected_dates";
+  private static final String KEY_DISABLED_DAYS = "disabled_days";
+  private static final String KEY_DAY_PICKER_ENGINE = "day_picker_engine";
+
+  public static final int SELECTION_MODE_SINGLE = 0;
+  public static final int SELECTION_MODE_RANGE = 1;
+  public static final int SELECTION_MODE_MULTIPLE = 2;
+
+  public static final int ENGINE_LIST_VIEW = 0;
+  public static final int ENGINE_RECYCLER_VIEW = 1;
 
   private static final int DEFAULT_START_YEAR = 1900;
   private static final int DEFAULT_END_YEAR = 2100;
 
   private static final int ANIMATION_DURATION = 300;
   private static final int ANIMATION_DELAY = 500;
+  private static final int TODAY_TICK_DELAY = 1000;
 
+  private static final int UNINITIALIZED = -1;
+  private static final int MONTH_AND_DAY_VIEW = 0;
+  private static final int YEAR_VIEW = 1;
+
+  private static final SimpleDateFormat YEAR_FORMAT =
+      new SimpleDateFormat("yyyy", Locale.getDefault());
   private static final SimpleDateFormat DAY_FORMAT =
       new SimpleDateFormat("dd", Locale.getDefault());
 
   private final Calendar mCalendar = Calendar.getInstance();
+  private int mSelectedEpochDay;
   private OnDateSetListener mCallBack;
-  private HashSet<OnDateChangedListener> mListeners = new HashSet<>();
+  private OnDateRangeSetListener mRangeCallBack;
+  private OnDatesSetListener mDatesCallBack;
+  private OnSelectedDatesChangedListener mSelectedDatesListener;
+  private final WeakListenerList<OnDateChangedListener> mListeners = new WeakListenerList<>();
+
+  private final TodaySnapshot mToday = new TodaySnapshot(Clock.SYSTEM);
+  private final Handler mHandler = new Handler();
 
   private AccessibleDateAnimator mAnimator;
 
@@ -58,16 +111,35 @@ public class CalendarDatePickerDialog extends DialogFragment implements
   private LinearLayout mMonthAndDayView;
   private TextView mSelectedMonthTextView;
   private TextView mSelectedDayTextView;
-  private DayPickerView mDayPickerView;
+  private TextView mYearView;
+  private YearPickerView mYearPickerView;
+  private DayPicker mDayPickerView;
 
   private int mWeekStart = mCalendar.getFirstDayOfWeek();
   private int mMinYear = DEFAULT_START_YEAR;
   private int mMaxYear = DEFAULT_END_YEAR;
+  private EpochDaySet mDisabledDays;
+
+  private int mSelectionMode = SELECTION_MODE_SINGLE;
+  private int mRangeStartEpochDay = EpochDaySet.NO_DAY;
+  private int mRangeEndEpochDay = EpochDaySet.NO_DAY;
+  private int mMinRangeSpan = 1;
+  private int mMaxRangeSpan = Integer.MAX_VALUE;
+  private EpochDaySet mSelectedDays;
+  private EpochDaySet mDispatchedDays;
+  private boolean mSelectionDispatchPending;
 
   private boolean mDelayAnimation = true;
+  private boolean mTileCacheEnabled = false;
+  private int mDayPickerEngine = ENGINE_LIST_VIEW;
+  private DayDecorationProvider mDecorationProvider;
+
+  private int mCurrentView = UNINITIALIZED;
 
   private String mDayPickerDescription;
   private String mSelectDay;
+  private String mYearPickerDescription;
+  private String mSelectYear;
 
   public interface OnDateSetListener {
     void onDateSet(
@@ -75,11 +147,28 @@ public class CalendarDatePickerDialog extends DialogFragment implements
         int year, int monthOfYear, int dayOfMonth);
   }
 
+  public interface OnDateRangeSetListener {
+    void onDateRangeSet(
+        CalendarDatePickerDialog dialog,
+        CalendarDate startDate, CalendarDate endDate);
+  }
+
+  public interface OnDatesSetListener {
+    void onDatesSet(CalendarDatePickerDialog dialog, int[] epochDays);
+  }
+
+  public interface OnSelectedDatesChangedListener {
+    void onSelectedDatesChanged(
+        CalendarDatePickerDialog dialog,
+        int[] addedEpochDays, int[] removedEpochDays);
+  }
+
   public interface OnDateChangedListener {
     void onDateChanged();
   }
 
   public CalendarDatePickerDialog() {
+    updateSelectedEpochDay();
   }
 
   public static CalendarDatePickerDialog newInstance(
@@ -97,6 +186,7 @@ public class CalendarDatePickerDialog extends DialogFragment implements
     mCalendar.set(Calendar.YEAR, year);
     mCalendar.set(Calendar.MONTH, monthOfYear);
     mCalendar.set(Calendar.DAY_OF_MONTH, dayOfMonth);
+    updateSelectedEpochDay();
   }
 
   @Override
@@ -109,6 +199,30 @@ public class CalendarDatePickerDialog extends DialogFragment implements
       mCalendar.set(Calendar.YEAR, savedInstanceState.getInt(KEY_SELECTED_YEAR));
       mCalendar.set(Calendar.MONTH, savedInstanceState.getInt(KEY_SELECTED_MONTH));
       mCalendar.set(Calendar.DAY_OF_MONTH, savedInstanceState.getInt(KEY_SELECTED_DAY));
+      updateSelectedEpochDay();
+      mTileCacheEnabled = savedInstanceState.getBoolean(KEY_TILE_CACHE_ENABLED);
+      mDayPickerEngine = savedInstanceState.getInt(KEY_DAY_PICKER_ENGINE);
+      mSelectionMode = savedInstanceState.getInt(KEY_SELECTION_MODE);
+      mMinYear = savedInstanceState.getInt(KEY_YEAR_START);
+      mMaxYear = savedInstanceState.getInt(KEY_YEAR_END);
+      mRangeStartEpochDay = savedInstanceState.getInt(KEY_RANGE_START, EpochDaySet.NO_DAY);
+      mRangeEndEpochDay = savedInstanceState.getInt(KEY_RANGE_END, EpochDaySet.NO_DAY);
+      mMinRangeSpan = savedInstanceState.getInt(KEY_MIN_RANGE_SPAN, 1);
+      mMaxRangeSpan = savedInstanceState.getInt(KEY_MAX_RANGE_SPAN, Integer.MAX_VALUE);
+      final int[] selectedDates = savedInstanceState.getIntArray(KEY_SELECTED_DATES);
+      if (selectedDates != null) {
+        mSelectedDays = createDaySet();
+        for (int epochDay : selectedDates) {
+          mSelectedDays.add(epochDay);
+        }
+        mDispatchedDays = createDaySet();
+        mDispatchedDays.set(mSelectedDays);
+      }
+      final long[] disabledDays = savedInstanceState.getLongArray(KEY_DISABLED_DAYS);
+      if (disabledDays != null) {
+        mDisabledDays = createDaySet();
+        mDisabledDays.setWords(disabledDays);
+      }
     }
   }
 
@@ -121,11 +235,81 @@ public class CalendarDatePickerDialog extends DialogFragment implements
     outState.putInt(KEY_WEEK_START, mWeekStart);
     outState.putInt(KEY_YEAR_START, mMinYear);
     outState.putInt(KEY_YEAR_END, mMaxYear);
-    int listPosition = mDayPickerView.getMostVisiblePosition();
-
+    outState.putBoolean(KEY_TILE_CACHE_ENABLED, mTileCacheEnabled);
+    outState.putInt(KEY_DAY_PICKER_ENGINE, mDayPickerEngine);
+    outState.putInt(KEY_SELECTION_MODE, mSelectionMode);
+    outState.putInt(KEY_RANGE_START, mRangeStartEpochDay);
+    outState.putInt(KEY_RANGE_END, mRangeEndEpochDay);
+    outState.putInt(KEY_MIN_RANGE_SPAN, mMinRangeSpan);
+    outState.putInt(KEY_MAX_RANGE_SPAN, mMaxRangeSpan);
+    if (mSelectedDays != null) {
+      outState.putIntArray(KEY_SELECTED_DATES, mSelectedDays.toArray());
+    }
+    if (mDisabledDays != null) {
+      outState.putLongArray(KEY_DISABLED_DAYS, mDisabledDays.toWords());
+    }
+    outState.putInt(KEY_CURRENT_VIEW, mCurrentView);
+    int listPosition = -1;
+    if (mCurrentView == MONTH_AND_DAY_VIEW) {
+      listPosition = mDayPickerView.getMonthAdapter().getPositionWindow()
+          .getMonthIndex(mDayPickerView.getMostVisiblePosition());
+    } else if (mCurrentView == YEAR_VIEW) {
+      listPosition = mYearPickerView.getFirstVisiblePosition();
+      outState.putInt(KEY_LIST_POSITION_OFFSET, mYearPickerView.getFirstPositionOffset());
+    }
     outState.putInt(KEY_LIST_POSITION, listPosition);
   }
 
+  @Override
+  public void onResume() {
+    super.onResume();
+    IntentFilter filter = new IntentFilter();
+    filter.addAction(Intent.ACTION_DATE_CHANGED);
+    filter.addAction(Intent.ACTION_TIME_CHANGED);
+    filter.addAction(Intent.ACTION_TIMEZONE_CHANGED);
+    getActivity().registerReceiver(mTodayChangedReceiver, filter);
+    updateToday();
+  }
+
+  @Override
+  public void onPause() {
+    super.onPause();
+    getActivity().unregisterReceiver(mTodayChangedReceiver);
+    mHandler.removeCallbacks(mTodayTick);
+  }
+
+  private final BroadcastReceiver mTodayChangedReceiver = new BroadcastReceiver() {
+    @Override
+    public void onReceive(Context context, Intent intent) {
+      updateToday();
+    }
+  };
+
+  private final Runnable mTodayTick = new Runnable() {
+    @Override
+    public void run() {
+      updateToday();
+    }
+  };
+
+  private void updateToday() {
+    mHandler.removeCallbacks(mTodayTick);
+    if (mToday.refresh() && mDayPickerView != null) {
+      mDayPickerView.onTodayChanged();
+    }
+    mHandler.postDelayed(mTodayTick, mToday.getMillisUntilNextDay() + TODAY_TICK_DELAY);
+  }
+
+  @Override
+  public void onConfigurationChanged(Configuration newConfig) {
+    super.onConfigurationChanged(newConfig);
+    DayNumberCache.invalidate();
+    WeekdayLabels.invalidate();
+    MonthTitleCache.invalidate();
+    MonthTileCache.invalidate();
+    DayDescriptionCache.invalidate();
+  }
+
   @Override
   public View onCreateView(LayoutInflater inflater, ViewGroup container,
       Bundle savedInstanceState) {
@@ -143,27 +327,48 @@ public class CalendarDatePickerDialog extends DialogFragment implements
         (TextView) view.findViewById(R.id.date_picker_month);
     mSelectedDayTextView =
         (TextView) view.findViewById(R.id.date_picker_day);
+    mYearView = (TextView) view.findViewById(R.id.date_picker_year);
+    mYearView.setOnClickListener(this);
 
     int listPosition = -1;
+    int listPositionOffset = 0;
+    int currentView = MONTH_AND_DAY_VIEW;
 
     if (savedInstanceState != null) {
       mWeekStart = savedInstanceState.getInt(KEY_WEEK_START);
       mMinYear = savedInstanceState.getInt(KEY_YEAR_START);
       mMaxYear = savedInstanceState.getInt(KEY_YEAR_END);
+      currentView = savedInstanceState.getInt(KEY_CURRENT_VIEW);
       listPosition = savedInstanceState.getInt(KEY_LIST_POSITION);
+      listPositionOffset = savedInstanceState.getInt(KEY_LIST_POSITION_OFFSET);
     }
 
     final Activity activity = getActivity();
-    mDayPickerView = new SimpleDayPickerView(activity, this);
+    final View dayPickerView;
+    if (mDayPickerEngine == ENGINE_RECYCLER_VIEW) {
+      final RecyclerDayPickerView recyclerDayPickerView = new RecyclerDayPickerView(activity, this);
+      mDayPickerView = recyclerDayPickerView;
+      dayPickerView = recyclerDayPickerView;
+    } else {
+      final SimpleDayPickerView simpleDayPickerView = new SimpleDayPickerView(activity, this);
+      mDayPickerView = simpleDayPickerView;
+      dayPickerView = simpleDayPickerView;
+    }
+    mDayPickerView.setTileCacheEnabled(mTileCacheEnabled);
+    mDayPickerView.setDayDecorationProvider(mDecorationProvider);
+    mYearPickerView = new YearPickerView(activity, this);
 
     Resources res = getResources();
     mDayPickerDescription =
         res.getString(R.string.day_picker_description);
     mSelectDay = res.getString(R.string.select_day);
+    mYearPickerDescription = res.getString(R.string.year_picker_description);
+    mSelectYear = res.getString(R.string.select_year);
 
     mAnimator =
         (AccessibleDateAnimator) view.findViewById(R.id.animator);
-    mAnimator.addView(mDayPickerView);
+    mAnimator.addView(dayPickerView);
+    mAnimator.addView(mYearPickerView);
     mAnimator.setDateMillis(mCalendar.getTimeInMillis());
 
     Animation animation = new AlphaAnimation(0.0f, 1.0f);
@@ -179,7 +384,15 @@ public class CalendarDatePickerDialog extends DialogFragment implements
 
       @Override
       public void onClick(View v) {
-        if (mCallBack != null) {
+        if (mSelectionMode == SELECTION_MODE_RANGE) {
+          if (!onRangeDone()) {
+            return;
+          }
+        } else if (mSelectionMode == SELECTION_MODE_MULTIPLE) {
+          if (mDatesCallBack != null) {
+            mDatesCallBack.onDatesSet(CalendarDatePickerDialog.this, mSelectedDays.toArray());
+          }
+        } else if (mCallBack != null) {
           mCallBack.onDateSet(
               CalendarDatePickerDialog.this,
               mCalendar.get(Calendar.YEAR),
@@ -190,34 +403,64 @@ public class CalendarDatePickerDialog extends DialogFragment implements
     });
 
     updateDisplay(false);
-    setCurrentView();
+    setCurrentView(currentView);
 
     if (listPosition != -1) {
-      mDayPickerView.postSetSelection(listPosition);
+      if (currentView == MONTH_AND_DAY_VIEW) {
+        mDayPickerView.postSetSelection(
+            mDayPickerView.getMonthAdapter().getPositionForMonth(listPosition));
+      } else if (currentView == YEAR_VIEW) {
+        mYearPickerView.setSelectionFromTop(listPosition, listPositionOffset);
+      }
     }
 
     return view;
   }
 
-  private void setCurrentView() {
+  private void setCurrentView(final int viewIndex) {
     long millis = mCalendar.getTimeInMillis();
 
-    ObjectAnimator pulseAnimator = Utils.getPulseAnimator(
-        mMonthAndDayView, 0.9f,
-        1.05f);
-    if (mDelayAnimation) {
-      pulseAnimator.setStartDelay(ANIMATION_DELAY);
-      mDelayAnimation = false;
-    }
-    mDayPickerView.onDateChanged();
-    mMonthAndDayView.setSelected(true);
-
-    pulseAnimator.start();
+    switch (viewIndex) {
+      case MONTH_AND_DAY_VIEW:
+        ObjectAnimator pulseAnimator = Utils.getPulseAnimator(
+            mMonthAndDayView, 0.9f,
+            1.05f);
+        if (mDelayAnimation) {
+          pulseAnimator.setStartDelay(ANIMATION_DELAY);
+          mDelayAnimation = false;
+        }
+        if (mCurrentView != viewIndex) {
+          mMonthAndDayView.setSelected(true);
+          mYearView.setSelected(false);
+          mAnimator.setDisplayedChild(MONTH_AND_DAY_VIEW);
+          mCurrentView = viewIndex;
+        }
+        pulseAnimator.start();
+
+        int flags = DateUtils.FORMAT_SHOW_DATE;
+        String dayString = DateUtils.formatDateTime(getActivity(), millis, flags);
+        mAnimator.setContentDescription(mDayPickerDescription + ": " + dayString);
+        Utils.tryAccessibilityAnnounce(mAnimator, mSelectDay);
+        break;
+      case YEAR_VIEW:
+        pulseAnimator = Utils.getPulseAnimator(mYearView, 0.85f, 1.1f);
+        if (mDelayAnimation) {
+          pulseAnimator.setStartDelay(ANIMATION_DELAY);
+          mDelayAnimation = false;
+        }
+        if (mCurrentView != viewIndex) {
+          mMonthAndDayView.setSelected(false);
+          mYearView.setSelected(true);
+          mAnimator.setDisplayedChild(YEAR_VIEW);
+          mCurrentView = viewIndex;
+        }
+        pulseAnimator.start();
 
-    int flags = DateUtils.FORMAT_SHOW_DATE;
-    String dayString = DateUtils.formatDateTime(getActivity(), millis, flags);
-    mAnimator.setContentDescription(mDayPickerDescription + ": " + dayString);
-    Utils.tryAccessibilityAnnounce(mAnimator, mSelectDay);
+        CharSequence yearString = YEAR_FORMAT.format(millis);
+        mAnimator.setContentDescription(mYearPickerDescription + ": " + yearString);
+        Utils.tryAccessibilityAnnounce(mAnimator, mSelectYear);
+        break;
+    }
   }
 
   private void updateDisplay(boolean announce) {
@@ -229,6 +472,7 @@ public class CalendarDatePickerDialog extends DialogFragment implements
     mSelectedMonthTextView.setText(mCalendar.getDisplayName(Calendar.MONTH, Calendar.SHORT,
         Locale.getDefault()).toUpperCase(Locale.getDefault()));
     mSelectedDayTextView.setText(DAY_FORMAT.format(mCalendar.getTime()));
+    mYearView.setText(YEAR_FORMAT.format(mCalendar.getTime()));
 
     long millis = mCalendar.getTimeInMillis();
     mAnimator.setDateMillis(millis);
@@ -260,15 +504,314 @@ public class CalendarDatePickerDialog extends DialogFragment implements
     }
     mMinYear = startYear;
     mMaxYear = endYear;
+    if (mDisabledDays != null) {
+      final EpochDaySet disabledDays = createDaySet();
+      disabledDays.addAll(mDisabledDays);
+      mDisabledDays = disabledDays;
+    }
+    if (mSelectedDays != null) {
+      final EpochDaySet selectedDays = createDaySet();
+      selectedDays.addAll(mSelectedDays);
+      final EpochDaySet dispatchedDays = createDaySet();
+      dispatchedDays.addAll(mDispatchedDays);
+      mSelectedDays = selectedDays;
+      mDispatchedDays = dispatchedDays;
+    }
     if (mDayPickerView != null) {
       mDayPickerView.onChange();
     }
+    if (mYearPickerView != null) {
+      mYearPickerView.onYearRangeChanged();
+    }
+  }
+
+  public void setDisabledDays(int[] epochDays) {
+    if (mDisabledDays == null) {
+      mDisabledDays = createDaySet();
+    } else {
+      mDisabledDays.clear();
+    }
+    mDisabledDays.addAll(epochDays);
+    onDisabledDaysChanged();
+  }
+
+  public void addDisabledDays(int[] epochDays) {
+    if (mDisabledDays == null) {
+      mDisabledDays = createDaySet();
+    }
+    mDisabledDays.addAll(epochDays);
+    onDisabledDaysChanged();
+  }
+
+  public void addDisabledRange(int firstEpochDay, int lastEpochDay) {
+    if (lastEpochDay < firstEpochDay) {
+      throw new IllegalArgumentException("Range end must not precede range start");
+    }
+    if (mDisabledDays == null) {
+      mDisabledDays = createDaySet();
+    }
+    mDisabledDays.addRange(firstEpochDay, lastEpochDay);
+    onDisabledDaysChanged();
+  }
+
+  public void clearDisabledDays() {
+    mDisabledDays = null;
+    if (mDayPickerView != null) {
+      mDayPickerView.onDisabledDaysChanged();
+    }
+  }
+
+  private EpochDaySet createDaySet() {
+    return new EpochDaySet(CalendarMath.toEpochDay(mMinYear, Calendar.JANUARY, 1),
+        CalendarMath.toEpochDay(mMaxYear, Calendar.DECEMBER, 31));
+  }
+
+  private void onDisabledDaysChanged() {
+    if (isDayDisabled(mSelectedEpochDay)) {
+      int epochDay = getNextSelectableEpochDay(mSelectedEpochDay);
+      if (epochDay == EpochDaySet.NO_DAY) {
+        epochDay = getPreviousSelectableEpochDay(mSelectedEpochDay);
+      }
+      if (epochDay != EpochDaySet.NO_DAY) {
+        setSelectedEpochDay(epochDay);
+        updatePickers();
+        if (mDayPickerView != null) {
+          updateDisplay(false);
+        }
+      }
+    }
+    if (mDayPickerView != null) {
+      mDayPickerView.onDisabledDaysChanged();
+    }
+  }
+
+  public void setDayPickerEngine(int engine) {
+    if (engine != ENGINE_LIST_VIEW && engine != ENGINE_RECYCLER_VIEW) {
+      throw new IllegalArgumentException("Unknown day picker engine " + engine);
+    }
+    if (mDayPickerView != null) {
+      throw new IllegalStateException("Day picker engine must be set before the view is created");
+    }
+    mDayPickerEngine = engine;
+  }
+
+  public int getMonthBindCount() {
+    return mDayPickerView != null ? mDayPickerView.getMonthAdapter().getBindCount() : 0;
+  }
+
+  public void setTileCacheEnabled(boolean enabled) {
+    mTileCacheEnabled = enabled;
+    if (mDayPickerView != null) {
+      mDayPickerView.setTileCacheEnabled(enabled);
+    }
+  }
+
+  public void setDayDecorationProvider(DayDecorationProvider provider) {
+    mDecorationProvider = provider;
+    if (mDayPickerView != null) {
+      mDayPickerView.setDayDecorationProvider(provider);
+    }
+  }
+
+  public void setClock(Clock clock) {
+    mToday.setClock(clock);
+    if (mDayPickerView != null) {
+      mDayPickerView.onTodayChanged();
+    }
   }
 
   public void setOnDateSetListener(OnDateSetListener listener) {
     mCallBack = listener;
   }
 
+  public void setOnDateRangeSetListener(OnDateRangeSetListener listener) {
+    mRangeCallBack = listener;
+  }
+
+  public void setOnDatesSetListener(OnDatesSetListener listener) {
+    mDatesCallBack = listener;
+  }
+
+  public void setOnSelectedDatesChangedListener(OnSelectedDatesChangedListener listener) {
+    mSelectedDatesListener = listener;
+  }
+
+  public void setSelectionMode(int selectionMode) {
+    if (selectionMode != SELECTION_MODE_SINGLE && selectionMode != SELECTION_MODE_RANGE
+        && selectionMode != SELECTION_MODE_MULTIPLE) {
+      throw new IllegalArgumentException("Unknown selection mode " + selectionMode);
+    }
+    mSelectionMode = selectionMode;
+    mRangeStartEpochDay = EpochDaySet.NO_DAY;
+    mRangeEndEpochDay = EpochDaySet.NO_DAY;
+    if (selectionMode == SELECTION_MODE_MULTIPLE) {
+      mSelectedDays = createDaySet();
+      mDispatchedDays = createDaySet();
+    } else {
+      mSelectedDays = null;
+      mDispatchedDays = null;
+    }
+    if (mDayPickerView != null) {
+      mDayPickerView.onChange();
+      mDayPickerView.onDateChanged();
+    }
+  }
+
+  public void setRangeSpan(int minDays, int maxDays) {
+    if (minDays < 1 || maxDays < minDays) {
+      throw new IllegalArgumentException("Range span must satisfy 1 <= min <= max");
+    }
+    mMinRangeSpan = minDays;
+    mMaxRangeSpan = maxDays;
+  }
+
+  public void setSelectedRange(int startEpochDay, int endEpochDay) {
+    if (mSelectionMode != SELECTION_MODE_RANGE) {
+      throw new IllegalStateException("Selected range requires SELECTION_MODE_RANGE");
+    }
+    if (startEpochDay == EpochDaySet.NO_DAY || !isRangeAllowed(startEpochDay, endEpochDay)) {
+      throw new IllegalArgumentException("Range violates span or disabled day constraints");
+    }
+    mRangeStartEpochDay = startEpochDay;
+    mRangeEndEpochDay = endEpochDay;
+    setSelectedEpochDay(mRangeEndEpochDay);
+    updatePickers();
+    if (mDayPickerView != null) {
+      updateDisplay(false);
+    }
+  }
+
+  public CalendarDate getRangeStartDate() {
+    return mRangeStartEpochDay != EpochDaySet.NO_DAY
+        ? CalendarDate.ofEpochDay(mRangeStartEpochDay) : null;
+  }
+
+  public CalendarDate getRangeEndDate() {
+    return mRangeEndEpochDay != EpochDaySet.NO_DAY
+        ? CalendarDate.ofEpochDay(mRangeEndEpochDay) : null;
+  }
+
+  public void setSelectedDates(int[] epochDays) {
+    if (mSelectionMode != SELECTION_MODE_MULTIPLE) {
+      throw new IllegalStateException("Selected dates require SELECTION_MODE_MULTIPLE");
+    }
+    mSelectedDays.clear();
+    mSelectedDays.addAll(epochDays);
+    onSelectedDaysChanged();
+  }
+
+  public void addSelectedDates(int[] epochDays) {
+    if (mSelectionMode != SELECTION_MODE_MULTIPLE) {
+      throw new IllegalStateException("Selected dates require SELECTION_MODE_MULTIPLE");
+    }
+    mSelectedDays.addAll(epochDays);
+    onSelectedDaysChanged();
+  }
+
+  public void clearSelectedDates() {
+    if (mSelectedDays != null) {
+      mSelectedDays.clear();
+      onSelectedDaysChanged();
+    }
+  }
+
+  public int[] getSelectedDates() {
+    return mSelectedDays != null ? mSelectedDays.toArray() : new int[0];
+  }
+
+  private void toggleSelectedDay(int epochDay) {
+    if (mSelectedDays.contains(epochDay)) {
+      mSelectedDays.remove(epochDay);
+    } else {
+      mSelectedDays.add(epochDay);
+    }
+    scheduleSelectionDispatch();
+  }
+
+  private void onSelectedDaysChanged() {
+    if (mDayPickerView != null) {
+      mDayPickerView.onSelectedDaysChanged();
+    }
+    scheduleSelectionDispatch();
+  }
+
+  private void scheduleSelectionDispatch() {
+    if (mSelectionDispatchPending) {
+      return;
+    }
+    mSelectionDispatchPending = true;
+    if (mAnimator != null) {
+      ViewCompat.postOnAnimation(mAnimator, mSelectionDispatch);
+    } else {
+      mHandler.post(mSelectionDispatch);
+    }
+  }
+
+  private final Runnable mSelectionDispatch = new Runnable() {
+    @Override
+    public void run() {
+      dispatchSelectedDatesChanged();
+    }
+  };
+
+  private void dispatchSelectedDatesChanged() {
+    mSelectionDispatchPending = false;
+    if (mSelectedDays == null) {
+      return;
+    }
+    if (mSelectedDatesListener == null) {
+      mDispatchedDays.set(mSelectedDays);
+      return;
+    }
+
+    final int[] added = mSelectedDays.toArrayExcluding(mDispatchedDays);
+    final int[] removed = mDispatchedDays.toArrayExcluding(mSelectedDays);
+    mDispatchedDays.set(mSelectedDays);
+    if (added.length > 0 || removed.length > 0) {
+      mSelectedDatesListener.onSelectedDatesChanged(this, added, removed);
+    }
+  }
+
+  private void updateRange(int epochDay) {
+    if (mRangeStartEpochDay == EpochDaySet.NO_DAY || mRangeEndEpochDay != EpochDaySet.NO_DAY
+        || !isRangeAllowed(mRangeStartEpochDay, epochDay)) {
+      mRangeStartEpochDay = epochDay;
+      mRangeEndEpochDay = EpochDaySet.NO_DAY;
+    } else {
+      mRangeEndEpochDay = epochDay;
+    }
+  }
+
+  private boolean isRangeAllowed(int startEpochDay, int endEpochDay) {
+    final long span = (long) endEpochDay - startEpochDay + 1;
+    if (span < mMinRangeSpan || span > mMaxRangeSpan) {
+      return false;
+    }
+    if (mDisabledDays == null) {
+      return true;
+    }
+    final int disabledDay = mDisabledDays.nextSetDay(startEpochDay);
+    return disabledDay == EpochDaySet.NO_DAY || disabledDay > endEpochDay;
+  }
+
+  private boolean onRangeDone() {
+    if (mRangeStartEpochDay == EpochDaySet.NO_DAY) {
+      return false;
+    }
+    int endEpochDay = mRangeEndEpochDay;
+    if (endEpochDay == EpochDaySet.NO_DAY) {
+      if (!isRangeAllowed(mRangeStartEpochDay, mRangeStartEpochDay)) {
+        return false;
+      }
+      endEpochDay = mRangeStartEpochDay;
+    }
+    if (mRangeCallBack != null) {
+      mRangeCallBack.onDateRangeSet(this, CalendarDate.ofEpochDay(mRangeStartEpochDay),
+          CalendarDate.ofEpochDay(endEpochDay));
+    }
+    return true;
+  }
+
   private void adjustDayInMonthIfNeeded(int month, int year) {
     int day = mCalendar.get(Calendar.DAY_OF_MONTH);
     int daysInMonth = Utils.getDaysInMonth(month, year);
@@ -279,8 +822,12 @@ public class CalendarDatePickerDialog extends DialogFragment implements
 
   @Override
   public void onClick(View v) {
-    if (v.getId() == R.id.date_picker_month_and_day) {
-      setCurrentView();
+    if (v.getId() == R.id.date_picker_year) {
+      mYearPickerView.onDateChanged();
+      setCurrentView(YEAR_VIEW);
+    } else if (v.getId() == R.id.date_picker_month_and_day) {
+      mDayPickerView.onDateChanged();
+      setCurrentView(MONTH_AND_DAY_VIEW);
     }
   }
 
@@ -288,8 +835,15 @@ public class CalendarDatePickerDialog extends DialogFragment implements
   public void onYearSelected(int year) {
     adjustDayInMonthIfNeeded(mCalendar.get(Calendar.MONTH), year);
     mCalendar.set(Calendar.YEAR, year);
+    updateSelectedEpochDay();
+    if (isDayDisabled(mSelectedEpochDay)) {
+      final int epochDay = getNextSelectableEpochDay(mSelectedEpochDay);
+      if (epochDay != EpochDaySet.NO_DAY) {
+        setSelectedEpochDay(epochDay);
+      }
+    }
     updatePickers();
-    setCurrentView();
+    setCurrentView(MONTH_AND_DAY_VIEW);
     updateDisplay(true);
   }
 
@@ -298,13 +852,34 @@ public class CalendarDatePickerDialog extends DialogFragment implements
     mCalendar.set(Calendar.YEAR, year);
     mCalendar.set(Calendar.MONTH, month);
     mCalendar.set(Calendar.DAY_OF_MONTH, day);
+    updateSelectedEpochDay();
+    if (mSelectionMode == SELECTION_MODE_RANGE) {
+      updateRange(mSelectedEpochDay);
+    } else if (mSelectionMode == SELECTION_MODE_MULTIPLE) {
+      toggleSelectedDay(mSelectedEpochDay);
+    }
     updatePickers();
     updateDisplay(true);
   }
 
+  private void updateSelectedEpochDay() {
+    mSelectedEpochDay = CalendarMath.toEpochDay(mCalendar.get(Calendar.YEAR),
+        mCalendar.get(Calendar.MONTH), mCalendar.get(Calendar.DAY_OF_MONTH));
+  }
+
+  private void setSelectedEpochDay(int epochDay) {
+    final int packedDate = CalendarMath.toPackedDate(epochDay);
+    mCalendar.set(CalendarMath.getPackedYear(packedDate), CalendarMath.getPackedMonth(packedDate),
+        CalendarMath.getPackedDay(packedDate));
+    mSelectedEpochDay = epochDay;
+  }
+
   private void updatePickers() {
-    for (OnDateChangedListener mListener : mListeners) {
-      mListener.onDateChanged();
+    for (WeakReference<OnDateChangedListener> reference : mListeners.getSnapshot()) {
+      final OnDateChangedListener listener = reference.get();
+      if (listener != null) {
+        listener.onDateChanged();
+      }
     }
   }
 
@@ -313,6 +888,75 @@ public class CalendarDatePickerDialog extends DialogFragment implements
     return new MonthAdapter.CalendarDay(mCalendar);
   }
 
+  @Override
+  public void getSelectedDay(MonthAdapter.CalendarDay outDay) {
+    outDay.setEpochDay(mSelectedEpochDay);
+  }
+
+  @Override
+  public int getSelectedEpochDay() {
+    return mSelectedEpochDay;
+  }
+
+  public CalendarDate getSelectedDate() {
+    return CalendarDate.ofEpochDay(mSelectedEpochDay);
+  }
+
+  @Override
+  public int getSelectionMode() {
+    return mSelectionMode;
+  }
+
+  @Override
+  public int getRangeStartEpochDay() {
+    return mRangeStartEpochDay;
+  }
+
+  @Override
+  public int getRangeEndEpochDay() {
+    return mRangeEndEpochDay;
+  }
+
+  @Override
+  public EpochDaySet getSelectedDays() {
+    return mSelectedDays;
+  }
+
+  @Override
+  public TodaySnapshot getToday() {
+    return mToday;
+  }
+
+  @Override
+  public EpochDaySet getDisabledDays() {
+    return mDisabledDays;
+  }
+
+  @Override
+  public boolean isDayDisabled(int epochDay) {
+    return mDisabledDays != null && mDisabledDays.contains(epochDay);
+  }
+
+  @Override
+  public int getNextSelectableEpochDay(int epochDay) {
+    if (mDisabledDays == null) {
+      return epochDay;
+    }
+    final int next = mDisabledDays.nextClearDay(epochDay);
+    return next <= mDisabledDays.getLastEpochDay() || epochDay > mDisabledDays.getLastEpochDay()
+        ? next : EpochDaySet.NO_DAY;
+  }
+
+  @Override
+  public int getPreviousSelectableEpochDay(int epochDay) {
+    if (mDisabledDays == null) {
+      return epochDay;
+    }
+    final int previous = mDisabledDays.previousClearDay(epochDay);
+    return previous >= mDisabledDays.getFirstEpochDay()
+        || epochDay < mDisabledDays.getFirstEpochDay() ? previous : EpochDaySet.NO_DAY;
+  }
+
   @Override
   public int getMinYear() {
     return mMinYear;
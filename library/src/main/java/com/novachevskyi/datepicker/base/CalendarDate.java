@@ -0,0 +1,71 @@
+package com.novachevskyi.datepicker.base;
+
+import com.novachevskyi.datepicker.utils.CalendarMath;
+import java.util.Locale;
+
+public final class CalendarDate implements Comparable<CalendarDate> {
+
+  private final int mEpochDay;
+
+  private CalendarDate(int epochDay) {
+    mEpochDay = epochDay;
+  }
+
+  public static CalendarDate ofEpochDay(int epochDay) {
+    return new CalendarDate(epochDay);
+  }
+
+  public static CalendarDate of(int year, int month, int day) {
+    return new CalendarDate(CalendarMath.toEpochDay(year, month, day));
+  }
+
+  public int getEpochDay() {
+    return mEpochDay;
+  }
+
+  public int getYear() {
+    return CalendarMath.getYear(mEpochDay);
+  }
+
+  public int getMonth() {
+    return CalendarMath.getMonth(mEpochDay);
+  }
+
+  public int getDay() {
+    return CalendarMath.getDayOfMonth(mEpochDay);
+  }
+
+  public int getDayOfWeek() {
+    return CalendarMath.getDayOfWeek(mEpochDay);
+  }
+
+  public CalendarDate plusDays(int days) {
+    return new CalendarDate(mEpochDay + days);
+  }
+
+  public CalendarDate plusMonths(int months) {
+    return new CalendarDate(CalendarMath.addMonths(mEpochDay, months));
+  }
+
+  @Override
+  public int compareTo(CalendarDate another) {
+    return mEpochDay < another.mEpochDay ? -1 : (mEpochDay == another.mEpochDay ? 0 : 1);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return this == o || (o instanceof CalendarDate && ((CalendarDate) o).mEpochDay == mEpochDay);
+  }
+
+  @Override
+  public int hashCode() {
+    return mEpochDay;
+  }
+
+  @Override
+  public String toString() {
+    final int packedDate = CalendarMath.toPackedDate(mEpochDay);
+    return String.format(Locale.US, "%04d-%02d-%02d", CalendarMath.getPackedYear(packedDate),
+        CalendarMath.getPackedMonth(packedDate) + 1, CalendarMath.getPackedDay(packedDate));
+  }
+}
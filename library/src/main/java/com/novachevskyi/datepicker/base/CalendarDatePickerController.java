@@ -2,6 +2,8 @@ package com.novachevskyi.datepicker.base;
 
 import com.novachevskyi.datepicker.CalendarDatePickerDialog;
 import com.novachevskyi.datepicker.base.adapters.MonthAdapter;
+import com.novachevskyi.datepicker.utils.EpochDaySet;
+import com.novachevskyi.datepicker.utils.TodaySnapshot;
 
 public interface CalendarDatePickerController {
 
@@ -17,6 +19,28 @@ public interface CalendarDatePickerController {
 
   MonthAdapter.CalendarDay getSelectedDay();
 
+  void getSelectedDay(MonthAdapter.CalendarDay outDay);
+
+  int getSelectedEpochDay();
+
+  int getSelectionMode();
+
+  int getRangeStartEpochDay();
+
+  int getRangeEndEpochDay();
+
+  EpochDaySet getSelectedDays();
+
+  TodaySnapshot getToday();
+
+  EpochDaySet getDisabledDays();
+
+  boolean isDayDisabled(int epochDay);
+
+  int getNextSelectableEpochDay(int epochDay);
+
+  int getPreviousSelectableEpochDay(int epochDay);
+
   int getFirstDayOfWeek();
 
   int getMinYear();
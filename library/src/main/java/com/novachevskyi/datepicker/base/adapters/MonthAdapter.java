@@ -4,25 +4,41 @@ import android.annotation.SuppressLint;
 import android.content.Context;
 import android.view.View;
 import android.view.ViewGroup;
+import android.view.ViewParent;
 import android.widget.AbsListView.LayoutParams;
 import android.widget.BaseAdapter;
+import com.novachevskyi.datepicker.CalendarDatePickerDialog;
+import com.novachevskyi.datepicker.base.CalendarDate;
 import com.novachevskyi.datepicker.base.CalendarDatePickerController;
+import com.novachevskyi.datepicker.base.decorations.DayDecorationLoader;
+import com.novachevskyi.datepicker.base.decorations.DayDecorationProvider;
+import com.novachevskyi.datepicker.base.metrics.PickerMetrics;
+import com.novachevskyi.datepicker.base.metrics.PickerTrace;
 import com.novachevskyi.datepicker.base.views.MonthView;
+import com.novachevskyi.datepicker.utils.CalendarMath;
+import com.novachevskyi.datepicker.utils.MonthLayoutTable;
+import com.novachevskyi.datepicker.utils.MonthPositionWindow;
+import com.novachevskyi.datepicker.utils.MonthTitleCache;
 import java.util.Calendar;
-import java.util.HashMap;
+import java.util.TimeZone;
 
 public abstract class MonthAdapter extends BaseAdapter implements MonthView.OnDayClickListener {
 
   private final Context mContext;
   private final CalendarDatePickerController mController;
+  private final MonthPositionWindow mPositionWindow = new MonthPositionWindow();
 
   private CalendarDay mSelectedDay;
+  private boolean mTileCacheEnabled = false;
+  private DayDecorationLoader mDecorationLoader;
+  private DayDecorationLoader.OnDecorationsLoadedListener mDecorationsLoadedListener;
+  private MonthView mPrerenderView;
+  private int mBindCount;
 
   public static final int MONTHS_IN_YEAR = 12;
 
   public static class CalendarDay {
 
-    private Calendar calendar;
     public int year;
     public int month;
     public int day;
@@ -45,6 +61,10 @@ public abstract class MonthAdapter extends BaseAdapter implements MonthView.OnDa
       setDay(year, month, day);
     }
 
+    public CalendarDay(CalendarDate date) {
+      setEpochDay(date.getEpochDay());
+    }
+
     public void set(CalendarDay date) {
       year = date.year;
       month = date.month;
@@ -57,14 +77,23 @@ public abstract class MonthAdapter extends BaseAdapter implements MonthView.OnDa
       this.day = day;
     }
 
+    public void setEpochDay(int epochDay) {
+      final int packedDate = CalendarMath.toPackedDate(epochDay);
+      year = CalendarMath.getPackedYear(packedDate);
+      month = CalendarMath.getPackedMonth(packedDate);
+      day = CalendarMath.getPackedDay(packedDate);
+    }
+
+    public int toEpochDay() {
+      return CalendarMath.toEpochDay(year, month, day);
+    }
+
+    public CalendarDate toCalendarDate() {
+      return CalendarDate.ofEpochDay(toEpochDay());
+    }
+
     private void setTime(long timeInMillis) {
-      if (calendar == null) {
-        calendar = Calendar.getInstance();
-      }
-      calendar.setTimeInMillis(timeInMillis);
-      month = calendar.get(Calendar.MONTH);
-      year = calendar.get(Calendar.YEAR);
-      day = calendar.get(Calendar.DAY_OF_MONTH);
+      setEpochDay(CalendarMath.toEpochDay(timeInMillis, TimeZone.getDefault()));
     }
   }
 
@@ -72,7 +101,8 @@ public abstract class MonthAdapter extends BaseAdapter implements MonthView.OnDa
     mContext = context;
     mController = controller;
     init();
-    setSelectedDay(mController.getSelectedDay());
+    mController.getSelectedDay(mSelectedDay);
+    notifyDataSetChanged();
   }
 
   public void setSelectedDay(CalendarDay day) {
@@ -80,13 +110,129 @@ public abstract class MonthAdapter extends BaseAdapter implements MonthView.OnDa
     notifyDataSetChanged();
   }
 
+  public void updateSelectedDay(CalendarDay day, ViewGroup parent) {
+    mSelectedDay = day;
+    final int childCount = parent.getChildCount();
+    for (int i = 0; i < childCount; i++) {
+      final View child = parent.getChildAt(i);
+      if (child instanceof MonthView) {
+        final MonthView monthView = (MonthView) child;
+        if (isSelectedDayInMonth(monthView.getYear(), monthView.getMonth())) {
+          monthView.setSelectedDay(day.day);
+        } else {
+          monthView.setSelectedDay(-1);
+        }
+      }
+    }
+  }
+
+  public void updateSelectedRange(ViewGroup parent) {
+    final int startEpochDay = mController.getRangeStartEpochDay();
+    final int endEpochDay = mController.getRangeEndEpochDay();
+    final int childCount = parent.getChildCount();
+    for (int i = 0; i < childCount; i++) {
+      final View child = parent.getChildAt(i);
+      if (child instanceof MonthView) {
+        ((MonthView) child).setSelectedRange(startEpochDay, endEpochDay);
+      }
+    }
+  }
+
+  public void updateSelectedDays(ViewGroup parent) {
+    final int childCount = parent.getChildCount();
+    for (int i = 0; i < childCount; i++) {
+      final View child = parent.getChildAt(i);
+      if (child instanceof MonthView) {
+        final MonthView monthView = (MonthView) child;
+        monthView.setSelectedDays(mController.getSelectedDays());
+        monthView.refreshSelectedDays();
+      }
+    }
+  }
+
+  public void setTileCacheEnabled(boolean enabled) {
+    mTileCacheEnabled = enabled;
+    notifyDataSetChanged();
+  }
+
+  public boolean isTileCacheEnabled() {
+    return mTileCacheEnabled;
+  }
+
+  public void setDayDecorationProvider(DayDecorationProvider provider) {
+    if (mDecorationLoader != null) {
+      mDecorationLoader.release();
+      mDecorationLoader = null;
+    }
+    if (provider != null) {
+      mDecorationLoader = new DayDecorationLoader(provider);
+      mDecorationLoader.setOnDecorationsLoadedListener(mDecorationsLoadedListener);
+    }
+    notifyDataSetChanged();
+  }
+
+  public void setOnDecorationsLoadedListener(
+      DayDecorationLoader.OnDecorationsLoadedListener listener) {
+    mDecorationsLoadedListener = listener;
+    if (mDecorationLoader != null) {
+      mDecorationLoader.setOnDecorationsLoadedListener(listener);
+    }
+  }
+
+  public DayDecorationLoader getDecorationLoader() {
+    return mDecorationLoader;
+  }
+
+  public void onVisibleRangeChanged(int firstPosition, int lastPosition, int direction) {
+    if (mDecorationLoader == null) {
+      return;
+    }
+    final MonthPositionWindow window = getPositionWindow();
+    mDecorationLoader.setYearRange(mController.getMinYear(), mController.getMaxYear());
+    mDecorationLoader.onVisibleRangeChanged(
+        window.getYear(firstPosition), window.getMonth(firstPosition),
+        window.getYear(lastPosition), window.getMonth(lastPosition), direction);
+  }
+
+  public void cancelDecorationLoads() {
+    if (mDecorationLoader != null) {
+      mDecorationLoader.cancelAll();
+    }
+  }
+
   protected void init() {
     mSelectedDay = new CalendarDay(System.currentTimeMillis());
   }
 
+  public MonthPositionWindow getPositionWindow() {
+    mPositionWindow.setYearRange(mController.getMinYear(), mController.getMaxYear());
+    return mPositionWindow;
+  }
+
+  public void setWindowMonths(int months) {
+    mPositionWindow.setWindowMonths(months);
+    notifyDataSetChanged();
+  }
+
+  public int getPositionForMonth(int monthIndex) {
+    final MonthPositionWindow window = getPositionWindow();
+    if (!window.contains(monthIndex)) {
+      recenterWindow(monthIndex);
+    }
+    return window.getPosition(monthIndex);
+  }
+
+  public int recenterWindow(int monthIndex) {
+    final int shift = getPositionWindow().recenter(monthIndex);
+    if (shift != 0) {
+      notifyDataSetChanged();
+    }
+    return shift;
+  }
+
   @Override
   public int getCount() {
-    return ((mController.getMaxYear() - mController.getMinYear()) + 1) * MONTHS_IN_YEAR;
+    return getPositionWindow().getCount();
   }
 
   @Override
@@ -96,7 +242,7 @@ public abstract class MonthAdapter extends BaseAdapter implements MonthView.OnDa
 
   @Override
   public long getItemId(int position) {
-    return position;
+    return getPositionWindow().getMonthIndex(position);
   }
 
   @Override
@@ -105,61 +251,133 @@ public abstract class MonthAdapter extends BaseAdapter implements MonthView.OnDa
   }
 
   @SuppressLint("NewApi")
-  @SuppressWarnings("unchecked")
   @Override
   public View getView(int position, View convertView, ViewGroup parent) {
     MonthView v;
-    HashMap<String, Integer> drawingParams = null;
     if (convertView != null) {
       v = (MonthView) convertView;
-      drawingParams = (HashMap<String, Integer>) v.getTag();
     } else {
-      v = createMonthView(mContext);
+      v = newMonthView();
       LayoutParams params = new LayoutParams(
           LayoutParams.MATCH_PARENT, LayoutParams.MATCH_PARENT);
       v.setLayoutParams(params);
-      v.setClickable(true);
-      v.setOnDayClickListener(this);
     }
-    if (drawingParams == null) {
-      drawingParams = new HashMap<>();
+    v.reuse();
+    bindMonthView(v, position);
+    v.invalidate();
+    return v;
+  }
+
+  public MonthView newMonthView() {
+    final MonthView v = createMonthView(mContext);
+    v.setClickable(true);
+    v.setOnDayClickListener(this);
+    v.setTodaySnapshot(mController.getToday());
+    return v;
+  }
+
+  public void bindMonthView(MonthView v, int position) {
+    mBindCount++;
+    final PickerMetrics metrics = PickerTrace.getMetrics();
+    final long start = metrics != null ? System.nanoTime() : 0;
+    PickerTrace.beginSection(PickerTrace.SECTION_BIND_MONTH);
+    try {
+      setMonthViewParams(v, position);
+    } finally {
+      PickerTrace.endSection();
+    }
+    if (metrics != null) {
+      metrics.onMonthBound(v.getYear(), v.getMonth(), System.nanoTime() - start);
     }
-    drawingParams.clear();
+  }
 
-    final int month = position % MONTHS_IN_YEAR;
-    final int year = position / MONTHS_IN_YEAR + mController.getMinYear();
+  private void setMonthViewParams(MonthView v, int position) {
+    final MonthPositionWindow window = getPositionWindow();
+    final int month = window.getMonth(position);
+    final int year = window.getYear(position);
 
     int selectedDay = -1;
     if (isSelectedDayInMonth(year, month)) {
       selectedDay = mSelectedDay.day;
     }
 
-    v.reuse();
+    v.setTileCacheEnabled(mTileCacheEnabled);
+    v.setMonthLayoutTable(getMonthLayoutTable());
+    v.setDisabledDays(mController.getDisabledDays());
+    v.setSelectedDays(mController.getSelectedDays());
+    v.setDecorations(mDecorationLoader != null ? mDecorationLoader.get(year, month) : null);
 
-    drawingParams.put(MonthView.VIEW_PARAMS_SELECTED_DAY, selectedDay);
-    drawingParams.put(MonthView.VIEW_PARAMS_YEAR, year);
-    drawingParams.put(MonthView.VIEW_PARAMS_MONTH, month);
-    drawingParams.put(MonthView.VIEW_PARAMS_WEEK_START, mController.getFirstDayOfWeek());
-    v.setMonthParams(drawingParams);
-    v.invalidate();
-    return v;
+    v.setMonthParams(year, month, selectedDay, mController.getFirstDayOfWeek());
+    v.setSelectedRange(mController.getRangeStartEpochDay(), mController.getRangeEndEpochDay());
+  }
+
+  public void prerenderMonth(int position, int width) {
+    if (position < 0 || position >= getCount()) {
+      return;
+    }
+    if (!mTileCacheEnabled || width <= 0) {
+      final MonthPositionWindow window = getPositionWindow();
+      final int month = window.getMonth(position);
+      final int year = window.getYear(position);
+      getMonthLayoutTable().getLayout(year, month);
+      MonthTitleCache.getTitle(mContext, year, month, MonthView.MONTH_TITLE_FLAGS);
+      if (mDecorationLoader != null) {
+        mDecorationLoader.get(year, month);
+      }
+      return;
+    }
+
+    if (mPrerenderView == null) {
+      mPrerenderView = createMonthView(mContext);
+      mPrerenderView.setTodaySnapshot(mController.getToday());
+    }
+    setMonthViewParams(mPrerenderView, position);
+    mPrerenderView.prerenderTile(width);
+  }
+
+  public int getBindCount() {
+    return mBindCount;
+  }
+
+  public void resetBindCount() {
+    mBindCount = 0;
+  }
+
+  public MonthLayoutTable getMonthLayoutTable() {
+    return MonthLayoutTable.getInstance(mController.getMinYear(), mController.getMaxYear(),
+        mController.getFirstDayOfWeek());
   }
 
   public abstract MonthView createMonthView(Context context);
 
   private boolean isSelectedDayInMonth(int year, int month) {
-    return mSelectedDay.year == year && mSelectedDay.month == month;
+    return mSelectedDay.year == year && mSelectedDay.month == month
+        && mController.getSelectionMode() != CalendarDatePickerDialog.SELECTION_MODE_MULTIPLE;
   }
 
   @Override
   public void onDayClick(MonthView view, CalendarDay day) {
     if (day != null) {
-      onDayTapped(day);
+      onDayTapped(view, day);
+    }
+  }
+
+  protected void onDayTapped(MonthView view, CalendarDay day) {
+    onDayTapped(day);
+    final ViewParent parent = view.getParent();
+    if (parent instanceof ViewGroup) {
+      updateSelectedDay(day, (ViewGroup) parent);
+      updateSelectedRange((ViewGroup) parent);
+      updateSelectedDays((ViewGroup) parent);
+    } else {
+      setSelectedDay(day);
     }
   }
 
+  // Kept for subclasses written against the single-argument hook; it is still called on every tap
+  // before the visible months are refreshed.
+  @Deprecated
   protected void onDayTapped(CalendarDay day) {
     mController.onDayOfMonthSelected(day.year, day.month, day.day);
-    setSelectedDay(day);
   }
 }
@@ -0,0 +1,238 @@
+package com.novachevskyi.datepicker.base.decorations;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.Process;
+import android.util.SparseArray;
+import com.novachevskyi.datepicker.utils.CalendarMath;
+import com.novachevskyi.datepicker.utils.LongLruCache;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+public class DayDecorationLoader {
+
+  public static final int DEFAULT_CACHE_MONTHS = 48;
+  public static final int DEFAULT_PREFETCH_MONTHS = 3;
+  public static final int DEFAULT_CANCEL_DISTANCE = 6;
+
+  private static final MonthDecorations NO_DECORATIONS = new MonthDecorations();
+
+  private static final long THREAD_KEEP_ALIVE_SECONDS = 30;
+
+  private static final ThreadFactory THREAD_FACTORY = new ThreadFactory() {
+    @Override
+    public Thread newThread(Runnable runnable) {
+      final Thread thread = new Thread(runnable, "DayDecorationLoader");
+      thread.setDaemon(true);
+      return thread;
+    }
+  };
+
+  private static ExecutorService sSharedExecutor;
+
+  private final DayDecorationProvider mProvider;
+  private final ExecutorService mExecutor;
+  private final Handler mHandler = new Handler(Looper.getMainLooper());
+
+  private final LongLruCache<MonthDecorations> mCache;
+  private final SparseArray<Request> mPending = new SparseArray<>();
+
+  private OnDecorationsLoadedListener mListener;
+
+  private int mPrefetchMonths = DEFAULT_PREFETCH_MONTHS;
+  private int mCancelDistance = DEFAULT_CANCEL_DISTANCE;
+
+  private int mMinMonth = Integer.MIN_VALUE;
+  private int mMaxMonth = Integer.MAX_VALUE;
+
+  private int mFirstVisibleMonth = Integer.MIN_VALUE;
+  private int mLastVisibleMonth = Integer.MIN_VALUE;
+  private int mDirection;
+
+  public interface OnDecorationsLoadedListener {
+    void onDecorationsLoaded(int year, int month, MonthDecorations decorations);
+  }
+
+  public DayDecorationLoader(DayDecorationProvider provider) {
+    this(provider, getSharedExecutor());
+  }
+
+  public DayDecorationLoader(DayDecorationProvider provider, ExecutorService executor) {
+    if (provider == null) {
+      throw new IllegalArgumentException("Provider must not be null");
+    }
+    mProvider = provider;
+    mExecutor = executor;
+    mCache = new LongLruCache<>(DEFAULT_CACHE_MONTHS);
+  }
+
+  public void setOnDecorationsLoadedListener(OnDecorationsLoadedListener listener) {
+    mListener = listener;
+  }
+
+  public void setPrefetchMonths(int prefetchMonths, int cancelDistance) {
+    if (prefetchMonths < 0 || cancelDistance < prefetchMonths) {
+      throw new IllegalArgumentException("Cancel distance must cover the prefetch window");
+    }
+    mPrefetchMonths = prefetchMonths;
+    mCancelDistance = cancelDistance;
+  }
+
+  public void setYearRange(int minYear, int maxYear) {
+    mMinMonth = CalendarMath.toMonthIndex(minYear, 0);
+    mMaxMonth = CalendarMath.toMonthIndex(maxYear, CalendarMath.MONTHS_IN_YEAR - 1);
+  }
+
+  public MonthDecorations get(int year, int month) {
+    final int monthIndex = CalendarMath.toMonthIndex(year, month);
+    final MonthDecorations decorations = mCache.get(monthIndex);
+    if (decorations == null) {
+      request(monthIndex);
+      return null;
+    }
+    return decorations != NO_DECORATIONS ? decorations : null;
+  }
+
+  public void onVisibleRangeChanged(int firstYear, int firstMonth, int lastYear, int lastMonth,
+      int direction) {
+    final int first = CalendarMath.toMonthIndex(firstYear, firstMonth);
+    final int last = CalendarMath.toMonthIndex(lastYear, lastMonth);
+    direction = Integer.signum(direction);
+    if (first == mFirstVisibleMonth && last == mLastVisibleMonth && direction == mDirection) {
+      return;
+    }
+    mFirstVisibleMonth = first;
+    mLastVisibleMonth = last;
+    mDirection = direction;
+
+    cancelOutside(first - mCancelDistance, last + mCancelDistance);
+    if (direction > 0) {
+      for (int i = 1; i <= mPrefetchMonths; i++) {
+        prefetch(last + i);
+      }
+    } else if (direction < 0) {
+      for (int i = 1; i <= mPrefetchMonths; i++) {
+        prefetch(first - i);
+      }
+    }
+  }
+
+  public void invalidate() {
+    cancelAll();
+    mCache.evictAll();
+  }
+
+  public void cancelAll() {
+    for (int i = mPending.size() - 1; i >= 0; i--) {
+      mPending.valueAt(i).cancel();
+    }
+    mPending.clear();
+  }
+
+  public void release() {
+    cancelAll();
+    mListener = null;
+  }
+
+  // One background thread for every picker in the process. It exits after being idle, so
+  // pickers that are recreated on each dialog show or rotation never pile up live threads.
+  private static synchronized ExecutorService getSharedExecutor() {
+    if (sSharedExecutor == null) {
+      final ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1,
+          THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(),
+          THREAD_FACTORY);
+      executor.allowCoreThreadTimeOut(true);
+      sSharedExecutor = executor;
+    }
+    return sSharedExecutor;
+  }
+
+  public int getPendingCount() {
+    return mPending.size();
+  }
+
+  private void prefetch(int monthIndex) {
+    if (monthIndex >= mMinMonth && monthIndex <= mMaxMonth && mCache.get(monthIndex) == null) {
+      request(monthIndex);
+    }
+  }
+
+  private void request(int monthIndex) {
+    if (mPending.get(monthIndex) != null) {
+      return;
+    }
+    final Request request = new Request(monthIndex);
+    try {
+      request.mFuture = mExecutor.submit(request);
+    } catch (RejectedExecutionException e) {
+      return;
+    }
+    mPending.put(monthIndex, request);
+  }
+
+  private void cancelOutside(int firstMonthIndex, int lastMonthIndex) {
+    for (int i = mPending.size() - 1; i >= 0; i--) {
+      final int monthIndex = mPending.keyAt(i);
+      if (monthIndex < firstMonthIndex || monthIndex > lastMonthIndex) {
+        mPending.valueAt(i).cancel();
+        mPending.removeAt(i);
+      }
+    }
+  }
+
+  private void onLoaded(Request request, MonthDecorations decorations) {
+    if (mPending.get(request.mMonthIndex) != request) {
+      return;
+    }
+    mPending.remove(request.mMonthIndex);
+    mCache.put(request.mMonthIndex, decorations != null ? decorations : NO_DECORATIONS);
+
+    if (decorations != null && mListener != null) {
+      mListener.onDecorationsLoaded(CalendarMath.getYearOfMonthIndex(request.mMonthIndex),
+          CalendarMath.getMonthOfMonthIndex(request.mMonthIndex), decorations);
+    }
+  }
+
+  private class Request implements Runnable {
+
+    private final int mMonthIndex;
+    private volatile boolean mCancelled;
+    private Future<?> mFuture;
+
+    Request(int monthIndex) {
+      mMonthIndex = monthIndex;
+    }
+
+    void cancel() {
+      mCancelled = true;
+      if (mFuture != null) {
+        mFuture.cancel(false);
+      }
+    }
+
+    @Override
+    public void run() {
+      if (mCancelled) {
+        return;
+      }
+      Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+      final MonthDecorations decorations = mProvider.loadDecorations(
+          CalendarMath.getYearOfMonthIndex(mMonthIndex),
+          CalendarMath.getMonthOfMonthIndex(mMonthIndex));
+      if (mCancelled) {
+        return;
+      }
+      mHandler.post(new Runnable() {
+        @Override
+        public void run() {
+          onLoaded(Request.this, decorations);
+        }
+      });
+    }
+  }
+}
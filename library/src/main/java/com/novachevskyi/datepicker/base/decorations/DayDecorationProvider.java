@@ -0,0 +1,6 @@
+package com.novachevskyi.datepicker.base.decorations;
+
+public interface DayDecorationProvider {
+
+  MonthDecorations loadDecorations(int year, int month);
+}
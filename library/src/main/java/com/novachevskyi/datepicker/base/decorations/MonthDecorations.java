@@ -0,0 +1,56 @@
+package com.novachevskyi.datepicker.base.decorations;
+
+public class MonthDecorations {
+
+  private static final int MAX_DAYS = 31;
+
+  private int mDays;
+  private int[] mDotColors;
+  private CharSequence[] mLabels;
+
+  public void setDot(int day, int color) {
+    checkDay(day);
+    if (mDotColors == null) {
+      mDotColors = new int[MAX_DAYS];
+    }
+    mDotColors[day - 1] = color;
+    mDays |= 1 << (day - 1);
+  }
+
+  public void setLabel(int day, CharSequence label) {
+    checkDay(day);
+    if (mLabels == null) {
+      mLabels = new CharSequence[MAX_DAYS];
+    }
+    mLabels[day - 1] = label;
+    if (label != null) {
+      mDays |= 1 << (day - 1);
+    }
+  }
+
+  public int getDecoratedDays() {
+    return mDays;
+  }
+
+  public boolean hasDecoration(int day) {
+    return (mDays & (1 << (day - 1))) != 0;
+  }
+
+  public boolean hasDot(int day) {
+    return mDotColors != null && mDotColors[day - 1] != 0;
+  }
+
+  public int getDotColor(int day) {
+    return mDotColors != null ? mDotColors[day - 1] : 0;
+  }
+
+  public CharSequence getLabel(int day) {
+    return mLabels != null ? mLabels[day - 1] : null;
+  }
+
+  private static void checkDay(int day) {
+    if (day < 1 || day > MAX_DAYS) {
+      throw new IllegalArgumentException("Day must be between 1 and " + MAX_DAYS);
+    }
+  }
+}
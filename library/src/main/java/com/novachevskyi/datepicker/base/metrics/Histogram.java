@@ -0,0 +1,84 @@
+package com.novachevskyi.datepicker.base.metrics;
+
+import java.util.Locale;
+
+public final class Histogram {
+
+  private static final int BUCKET_COUNT = 32;
+  private static final long NANOS_PER_MICRO = 1000L;
+
+  private final long[] mBuckets = new long[BUCKET_COUNT];
+
+  private long mCount;
+  private long mTotal;
+  private long mMax;
+
+  public void record(long value) {
+    if (value < 0) {
+      value = 0;
+    }
+    mBuckets[getBucket(value)]++;
+    mCount++;
+    mTotal += value;
+    mMax = Math.max(mMax, value);
+  }
+
+  public long getCount() {
+    return mCount;
+  }
+
+  public long getTotal() {
+    return mTotal;
+  }
+
+  public long getMax() {
+    return mMax;
+  }
+
+  public long getMean() {
+    return mCount != 0 ? mTotal / mCount : 0;
+  }
+
+  public long getPercentile(double percentile) {
+    if (percentile < 0 || percentile > 100) {
+      throw new IllegalArgumentException("Percentile must be between 0 and 100");
+    }
+    if (mCount == 0) {
+      return 0;
+    }
+    final long rank = Math.max(1, (long) Math.ceil(mCount * percentile / 100));
+    long seen = 0;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      seen += mBuckets[i];
+      if (seen >= rank) {
+        return Math.min(mMax, getBucketUpperBound(i));
+      }
+    }
+    return mMax;
+  }
+
+  public void reset() {
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      mBuckets[i] = 0;
+    }
+    mCount = 0;
+    mTotal = 0;
+    mMax = 0;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(Locale.US, "n=%d mean=%dus p50=%dus p90=%dus p99=%dus max=%dus",
+        mCount, getMean() / NANOS_PER_MICRO, getPercentile(50) / NANOS_PER_MICRO,
+        getPercentile(90) / NANOS_PER_MICRO, getPercentile(99) / NANOS_PER_MICRO,
+        mMax / NANOS_PER_MICRO);
+  }
+
+  private static int getBucket(long value) {
+    return Math.min(BUCKET_COUNT - 1, 64 - Long.numberOfLeadingZeros(value / NANOS_PER_MICRO));
+  }
+
+  private static long getBucketUpperBound(int bucket) {
+    return bucket == BUCKET_COUNT - 1 ? Long.MAX_VALUE : (1L << bucket) * NANOS_PER_MICRO;
+  }
+}
@@ -0,0 +1,67 @@
+package com.novachevskyi.datepicker.base.metrics;
+
+public class HistogramMetrics implements PickerMetrics {
+
+  private final Histogram mBindTimes = new Histogram();
+  private final Histogram mDrawTimes = new Histogram();
+  private final Histogram mLayoutTimes = new Histogram();
+  private final Histogram mFrameIntervals = new Histogram();
+
+  private long mDroppedFrames;
+
+  @Override
+  public void onMonthBound(int year, int month, long durationNanos) {
+    mBindTimes.record(durationNanos);
+  }
+
+  @Override
+  public void onMonthDrawn(int year, int month, long durationNanos) {
+    mDrawTimes.record(durationNanos);
+  }
+
+  @Override
+  public void onLayout(int childCount, long durationNanos) {
+    mLayoutTimes.record(durationNanos);
+  }
+
+  @Override
+  public void onScrollFrame(long frameIntervalNanos, int droppedFrames) {
+    mFrameIntervals.record(frameIntervalNanos);
+    mDroppedFrames += droppedFrames;
+  }
+
+  public Histogram getBindTimes() {
+    return mBindTimes;
+  }
+
+  public Histogram getDrawTimes() {
+    return mDrawTimes;
+  }
+
+  public Histogram getLayoutTimes() {
+    return mLayoutTimes;
+  }
+
+  public Histogram getFrameIntervals() {
+    return mFrameIntervals;
+  }
+
+  public long getDroppedFrames() {
+    return mDroppedFrames;
+  }
+
+  public void reset() {
+    mBindTimes.reset();
+    mDrawTimes.reset();
+    mLayoutTimes.reset();
+    mFrameIntervals.reset();
+    mDroppedFrames = 0;
+  }
+
+  @Override
+  public String toString() {
+    return "bind[" + mBindTimes + "] draw[" + mDrawTimes
+        + "] layout[" + mLayoutTimes + "] frames["
+        + mFrameIntervals + "] dropped=" + mDroppedFrames;
+  }
+}
@@ -0,0 +1,12 @@
+package com.novachevskyi.datepicker.base.metrics;
+
+public interface PickerMetrics {
+
+  void onMonthBound(int year, int month, long durationNanos);
+
+  void onMonthDrawn(int year, int month, long durationNanos);
+
+  void onLayout(int childCount, long durationNanos);
+
+  void onScrollFrame(long frameIntervalNanos, int droppedFrames);
+}
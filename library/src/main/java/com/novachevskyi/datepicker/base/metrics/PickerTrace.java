@@ -0,0 +1,42 @@
+package com.novachevskyi.datepicker.base.metrics;
+
+import android.annotation.SuppressLint;
+import android.os.Build;
+import android.os.Trace;
+
+public final class PickerTrace {
+
+  public static final String SECTION_BIND_MONTH = "DatePicker.bindMonth";
+  public static final String SECTION_DRAW_MONTH = "DatePicker.drawMonth";
+  public static final String SECTION_LAYOUT = "DatePicker.layout";
+
+  private static final boolean TRACE_SUPPORTED =
+      Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN_MR2;
+
+  private static PickerMetrics sMetrics;
+
+  private PickerTrace() {
+  }
+
+  public static void setMetrics(PickerMetrics metrics) {
+    sMetrics = metrics;
+  }
+
+  public static PickerMetrics getMetrics() {
+    return sMetrics;
+  }
+
+  @SuppressLint("NewApi")
+  public static void beginSection(String sectionName) {
+    if (TRACE_SUPPORTED) {
+      Trace.beginSection(sectionName);
+    }
+  }
+
+  @SuppressLint("NewApi")
+  public static void endSection() {
+    if (TRACE_SUPPORTED) {
+      Trace.endSection();
+    }
+  }
+}
@@ -0,0 +1,64 @@
+package com.novachevskyi.datepicker.base.metrics;
+
+import android.annotation.SuppressLint;
+import android.os.Build;
+import android.view.Choreographer;
+
+@SuppressLint("NewApi")
+public class ScrollFrameMonitor implements Choreographer.FrameCallback {
+
+  public static final long DEFAULT_FRAME_INTERVAL_NANOS = 16666667L;
+
+  private final Choreographer mChoreographer = Choreographer.getInstance();
+
+  private long mFrameIntervalNanos = DEFAULT_FRAME_INTERVAL_NANOS;
+  private long mLastFrameNanos;
+  private boolean mRunning;
+
+  public static ScrollFrameMonitor create() {
+    if (Build.VERSION.SDK_INT < Build.VERSION_CODES.JELLY_BEAN) {
+      return null;
+    }
+    return new ScrollFrameMonitor();
+  }
+
+  public void setFrameIntervalNanos(long frameIntervalNanos) {
+    if (frameIntervalNanos <= 0) {
+      throw new IllegalArgumentException("Frame interval must be positive");
+    }
+    mFrameIntervalNanos = frameIntervalNanos;
+  }
+
+  public void start() {
+    if (mRunning || PickerTrace.getMetrics() == null) {
+      return;
+    }
+    mRunning = true;
+    mLastFrameNanos = 0;
+    mChoreographer.postFrameCallback(this);
+  }
+
+  public void stop() {
+    if (mRunning) {
+      mRunning = false;
+      mChoreographer.removeFrameCallback(this);
+    }
+  }
+
+  @Override
+  public void doFrame(long frameTimeNanos) {
+    final PickerMetrics metrics = PickerTrace.getMetrics();
+    if (!mRunning || metrics == null) {
+      mRunning = false;
+      return;
+    }
+    if (mLastFrameNanos != 0) {
+      final long delta = frameTimeNanos - mLastFrameNanos;
+      final int droppedFrames =
+          (int) Math.max(0, (delta + mFrameIntervalNanos / 2) / mFrameIntervalNanos - 1);
+      metrics.onScrollFrame(delta, droppedFrames);
+    }
+    mLastFrameNanos = frameTimeNanos;
+    mChoreographer.postFrameCallback(this);
+  }
+}
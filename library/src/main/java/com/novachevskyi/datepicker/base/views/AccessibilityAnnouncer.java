@@ -0,0 +1,52 @@
+package com.novachevskyi.datepicker.base.views;
+
+import android.os.SystemClock;
+import android.view.View;
+import com.novachevskyi.datepicker.utils.Utils;
+
+class AccessibilityAnnouncer implements Runnable {
+
+  static final long DEFAULT_MIN_INTERVAL_MILLIS = 400;
+
+  private final View mView;
+
+  private long mMinIntervalMillis = DEFAULT_MIN_INTERVAL_MILLIS;
+  private long mLastAnnouncementMillis;
+  private CharSequence mPendingText;
+
+  AccessibilityAnnouncer(View view) {
+    mView = view;
+  }
+
+  void setMinIntervalMillis(long millis) {
+    if (millis < 0) {
+      throw new IllegalArgumentException("Announcement interval must not be negative");
+    }
+    mMinIntervalMillis = millis;
+  }
+
+  void announce(CharSequence text) {
+    final boolean posted = mPendingText != null;
+    mPendingText = text;
+    if (!posted) {
+      final long delay = mLastAnnouncementMillis + mMinIntervalMillis
+          - SystemClock.uptimeMillis();
+      mView.postDelayed(this, Math.max(0, delay));
+    }
+  }
+
+  void cancel() {
+    if (mPendingText != null) {
+      mView.removeCallbacks(this);
+      mPendingText = null;
+    }
+  }
+
+  @Override
+  public void run() {
+    final CharSequence text = mPendingText;
+    mPendingText = null;
+    mLastAnnouncementMillis = SystemClock.uptimeMillis();
+    Utils.tryAccessibilityAnnounce(mView, text);
+  }
+}
@@ -0,0 +1,35 @@
+package com.novachevskyi.datepicker.base.views;
+
+import com.novachevskyi.datepicker.CalendarDatePickerDialog;
+import com.novachevskyi.datepicker.base.adapters.MonthAdapter;
+import com.novachevskyi.datepicker.base.decorations.DayDecorationProvider;
+
+public interface DayPicker extends CalendarDatePickerDialog.OnDateChangedListener {
+
+  void onChange();
+
+  void onTodayChanged();
+
+  void onDisabledDaysChanged();
+
+  void onSelectedDaysChanged();
+
+  void setTileCacheEnabled(boolean enabled);
+
+  void setDayDecorationProvider(DayDecorationProvider provider);
+
+  boolean goTo(MonthAdapter.CalendarDay day, boolean animate, boolean setSelected,
+      boolean forceScroll);
+
+  void postSetSelection(int position);
+
+  int getMostVisiblePosition();
+
+  boolean isScrolling();
+
+  void setFarJumpThreshold(int months);
+
+  int getLastJumpBindCount();
+
+  MonthAdapter getMonthAdapter();
+}
@@ -8,6 +8,7 @@ import android.os.Handler;
 import android.support.annotation.NonNull;
 import android.util.AttributeSet;
 import android.util.Log;
+import android.view.MotionEvent;
 import android.view.View;
 import android.view.ViewConfiguration;
 import android.view.accessibility.AccessibilityEvent;
@@ -15,26 +16,29 @@ import android.view.accessibility.AccessibilityNodeInfo;
 import android.widget.AbsListView;
 import android.widget.AbsListView.OnScrollListener;
 import android.widget.ListView;
-import com.novachevskyi.datepicker.CalendarDatePickerDialog;
 import com.novachevskyi.datepicker.base.CalendarDatePickerController;
 import com.novachevskyi.datepicker.base.adapters.MonthAdapter;
-import com.novachevskyi.datepicker.base.adapters.SimpleMonthAdapter;
-import com.novachevskyi.datepicker.utils.Utils;
-import java.text.SimpleDateFormat;
-import java.util.Calendar;
-import java.util.Locale;
-
-public abstract class DayPickerView extends ListView implements OnScrollListener,
-    CalendarDatePickerDialog.OnDateChangedListener {
+import com.novachevskyi.datepicker.base.decorations.DayDecorationLoader;
+import com.novachevskyi.datepicker.base.decorations.DayDecorationProvider;
+import com.novachevskyi.datepicker.base.decorations.MonthDecorations;
+import com.novachevskyi.datepicker.base.metrics.PickerMetrics;
+import com.novachevskyi.datepicker.base.metrics.PickerTrace;
+import com.novachevskyi.datepicker.base.metrics.ScrollFrameMonitor;
+import com.novachevskyi.datepicker.utils.CalendarMath;
+import com.novachevskyi.datepicker.utils.MonthPositionWindow;
+import com.novachevskyi.datepicker.utils.MonthTitleCache;
+
+public abstract class DayPickerView extends ListView implements OnScrollListener, DayPicker,
+    DayDecorationLoader.OnDecorationsLoadedListener {
 
   private static final String TAG = "MonthFragment";
 
   protected static final int GOTO_SCROLL_DURATION = 250;
   protected static final int SCROLL_CHANGE_DELAY = 40;
   public static final int LIST_TOP_OFFSET = -1;
-
-  private static final SimpleDateFormat YEAR_FORMAT =
-      new SimpleDateFormat("yyyy", Locale.getDefault());
+  public static final int DEFAULT_PRERENDER_MONTHS = 2;
+  public static final int DEFAULT_FAR_JUMP_THRESHOLD = 12;
+  protected static final int FAR_JUMP_LANDING_MONTHS = 2;
 
   protected float mFriction = 1.0f;
 
@@ -45,6 +49,8 @@ public abstract class DayPickerView extends ListView implements OnScrollListener
   protected MonthAdapter mAdapter;
 
   protected MonthAdapter.CalendarDay mTempDay = new MonthAdapter.CalendarDay();
+  protected MonthAdapter.CalendarDay mControllerDay = new MonthAdapter.CalendarDay();
+  private final MonthAdapter.CalendarDay mAccessibilityDay = new MonthAdapter.CalendarDay();
 
   protected int mCurrentMonthDisplayed;
   protected long mPreviousScrollPosition;
@@ -53,6 +59,23 @@ public abstract class DayPickerView extends ListView implements OnScrollListener
 
   private CalendarDatePickerController mController;
   private boolean mPerformingScroll;
+  private int mScrollState = OnScrollListener.SCROLL_STATE_IDLE;
+  private final AccessibilityAnnouncer mAnnouncer = new AccessibilityAnnouncer(this);
+
+  private int mPrerenderMonths = DEFAULT_PRERENDER_MONTHS;
+  private final ScrollFrameMonitor mFrameMonitor = ScrollFrameMonitor.create();
+
+  private int mFarJumpThreshold = DEFAULT_FAR_JUMP_THRESHOLD;
+  private boolean mJumping;
+  private int mJumpStartBindCount;
+  private int mLastJumpBindCount;
+  private final MonthPrerenderScheduler mPrerenderScheduler = new MonthPrerenderScheduler(
+      new MonthPrerenderScheduler.Task() {
+        @Override
+        public void prerenderMonth(int position) {
+          mAdapter.prerenderMonth(position, getWidth());
+        }
+      });
 
   public DayPickerView(Context context, AttributeSet attrs) {
     super(context, attrs);
@@ -81,6 +104,12 @@ public abstract class DayPickerView extends ListView implements OnScrollListener
     setUpListView();
   }
 
+  @Override
+  public MonthAdapter getMonthAdapter() {
+    return mAdapter;
+  }
+
+  @Override
   public void onChange() {
     refreshAdapter();
   }
@@ -88,6 +117,7 @@ public abstract class DayPickerView extends ListView implements OnScrollListener
   protected void refreshAdapter() {
     if (mAdapter == null) {
       mAdapter = createMonthAdapter(getContext(), mController);
+      mAdapter.setOnDecorationsLoadedListener(this);
     } else {
       mAdapter.setSelectedDay(mSelectedDay);
     }
@@ -95,6 +125,133 @@ public abstract class DayPickerView extends ListView implements OnScrollListener
     setAdapter(mAdapter);
   }
 
+  @Override
+  public void onTodayChanged() {
+    mAdapter.notifyDataSetChanged();
+  }
+
+  @Override
+  public void onDisabledDaysChanged() {
+    mAdapter.notifyDataSetChanged();
+  }
+
+  @Override
+  public void onSelectedDaysChanged() {
+    mAdapter.updateSelectedDays(this);
+  }
+
+  @Override
+  public void setTileCacheEnabled(boolean enabled) {
+    mAdapter.setTileCacheEnabled(enabled);
+  }
+
+  @Override
+  public void setDayDecorationProvider(DayDecorationProvider provider) {
+    mAdapter.setDayDecorationProvider(provider);
+  }
+
+  @Override
+  public void onDecorationsLoaded(int year, int month, MonthDecorations decorations) {
+    final int childCount = getChildCount();
+    for (int i = 0; i < childCount; i++) {
+      final View child = getChildAt(i);
+      if (child instanceof MonthView) {
+        final MonthView monthView = (MonthView) child;
+        if (monthView.getYear() == year && monthView.getMonth() == month) {
+          monthView.setDecorations(decorations);
+        }
+      }
+    }
+  }
+
+  @Override
+  public void setFarJumpThreshold(int months) {
+    if (months < FAR_JUMP_LANDING_MONTHS) {
+      throw new IllegalArgumentException("Far jump threshold must be at least "
+          + FAR_JUMP_LANDING_MONTHS + " months");
+    }
+    mFarJumpThreshold = months;
+  }
+
+  @Override
+  public int getLastJumpBindCount() {
+    return mLastJumpBindCount;
+  }
+
+  public void setPrerenderMonths(int months) {
+    if (months < 0) {
+      throw new IllegalArgumentException("Prerender month count must not be negative");
+    }
+    mPrerenderMonths = months;
+    if (months == 0) {
+      mPrerenderScheduler.cancel();
+    }
+  }
+
+  public void setPrerenderFrameBudget(long millis) {
+    mPrerenderScheduler.setFrameBudgetMillis(millis);
+  }
+
+  protected void schedulePrerender(int centerPosition) {
+    if (mPrerenderMonths > 0 && mAdapter != null) {
+      mPrerenderScheduler.schedule(centerPosition, mPrerenderMonths, mAdapter.getCount());
+    }
+  }
+
+  public void setWindowMonths(int months) {
+    mAdapter.setWindowMonths(months);
+  }
+
+  private int recenterWindowIfNeeded() {
+    final View child = getChildAt(0);
+    if (child == null || mAdapter == null) {
+      return 0;
+    }
+    final int firstPosition = getFirstVisiblePosition();
+    final MonthPositionWindow window = mAdapter.getPositionWindow();
+    if (!window.isNearEdge(firstPosition, getLastVisiblePosition())) {
+      return 0;
+    }
+    final int shift = mAdapter.recenterWindow(window.getMonthIndex(getMostVisiblePosition()));
+    if (shift != 0) {
+      mPrerenderScheduler.cancel();
+      setSelectionFromTop(firstPosition - shift, child.getTop());
+    }
+    return shift;
+  }
+
+  @Override
+  public boolean dispatchTouchEvent(@NonNull MotionEvent event) {
+    if (event.getActionMasked() == MotionEvent.ACTION_DOWN) {
+      mPrerenderScheduler.cancel();
+    }
+    return super.dispatchTouchEvent(event);
+  }
+
+  @Override
+  protected void onAttachedToWindow() {
+    super.onAttachedToWindow();
+    if (mController != null) {
+      mController.registerOnDateChangedListener(this);
+    }
+  }
+
+  @Override
+  protected void onDetachedFromWindow() {
+    super.onDetachedFromWindow();
+    if (mController != null) {
+      mController.unregisterOnDateChangedListener(this);
+    }
+    if (mFrameMonitor != null) {
+      mFrameMonitor.stop();
+    }
+    mAnnouncer.cancel();
+    mPrerenderScheduler.cancel();
+    if (mAdapter != null) {
+      mAdapter.cancelDecorationLoads();
+    }
+  }
+
   public abstract MonthAdapter createMonthAdapter(Context context,
       CalendarDatePickerController controller);
 
@@ -112,6 +269,7 @@ public abstract class DayPickerView extends ListView implements OnScrollListener
     }
   }
 
+  @Override
   public boolean goTo(MonthAdapter.CalendarDay day, boolean animate, boolean setSelected,
       boolean forceScroll) {
     if (setSelected) {
@@ -119,8 +277,6 @@ public abstract class DayPickerView extends ListView implements OnScrollListener
     }
 
     mTempDay.set(day);
-    final int position = (day.year - mController.getMinYear())
-        * SimpleMonthAdapter.MONTHS_IN_YEAR + day.month;
 
     View child;
     int i = 0;
@@ -144,20 +300,31 @@ public abstract class DayPickerView extends ListView implements OnScrollListener
       selectedPosition = 0;
     }
 
+    final int selectedMonth = mAdapter.getPositionWindow().getMonthIndex(selectedPosition);
+    final int targetMonth = CalendarMath.toMonthIndex(day.year, day.month);
+    final int position = mAdapter.getPositionForMonth(targetMonth);
+
     if (setSelected) {
-      mAdapter.setSelectedDay(mSelectedDay);
+      mAdapter.updateSelectedDay(mSelectedDay, this);
+      mAdapter.updateSelectedRange(this);
     }
 
     if (Log.isLoggable(TAG, Log.DEBUG)) {
       Log.d(TAG, "GoTo position " + position);
     }
 
-    if (position != selectedPosition || forceScroll) {
+    if (targetMonth != selectedMonth || forceScroll) {
       setMonthDisplayed(mTempDay);
       mPreviousScrollState = OnScrollListener.SCROLL_STATE_FLING;
       if (animate && Build.VERSION.SDK_INT >= Build.VERSION_CODES.HONEYCOMB) {
-        smoothScrollToPositionFromTop(
-            position, LIST_TOP_OFFSET, GOTO_SCROLL_DURATION);
+        mJumping = true;
+        mJumpStartBindCount = mAdapter.getBindCount();
+        final int distance = targetMonth - selectedMonth;
+        if (Math.abs(distance) > mFarJumpThreshold) {
+          jumpNear(position, distance > 0 ? -FAR_JUMP_LANDING_MONTHS : FAR_JUMP_LANDING_MONTHS);
+        } else {
+          smoothScrollToPositionFromTop(position, LIST_TOP_OFFSET, GOTO_SCROLL_DURATION);
+        }
         return true;
       } else {
         postSetSelection(position);
@@ -168,6 +335,26 @@ public abstract class DayPickerView extends ListView implements OnScrollListener
     return false;
   }
 
+  private void jumpNear(final int position, int landingOffset) {
+    setSelection(Math.max(0, Math.min(getCount() - 1, position + landingOffset)));
+    post(new Runnable() {
+      @SuppressLint("NewApi")
+      @Override
+      public void run() {
+        smoothScrollToPositionFromTop(position, LIST_TOP_OFFSET, GOTO_SCROLL_DURATION);
+      }
+    });
+  }
+
+  private void onJumpFinished() {
+    mJumping = false;
+    mLastJumpBindCount = mAdapter.getBindCount() - mJumpStartBindCount;
+    if (Log.isLoggable(TAG, Log.DEBUG)) {
+      Log.d(TAG, "Jump finished after " + mLastJumpBindCount + " binds");
+    }
+  }
+
+  @Override
   public void postSetSelection(final int position) {
     clearFocus();
     post(new Runnable() {
@@ -188,18 +375,28 @@ public abstract class DayPickerView extends ListView implements OnScrollListener
       return;
     }
 
-    mPreviousScrollPosition =
+    final long scrollPosition =
         (long) (view.getFirstVisiblePosition() * child.getHeight() - child.getBottom());
+    mAdapter.onVisibleRangeChanged(firstVisibleItem, firstVisibleItem + visibleItemCount - 1,
+        Long.signum(scrollPosition - mPreviousScrollPosition));
+    mPreviousScrollPosition = scrollPosition;
     mPreviousScrollState = mCurrentScrollState;
   }
 
   protected void setMonthDisplayed(MonthAdapter.CalendarDay date) {
     mCurrentMonthDisplayed = date.month;
-    invalidateViews();
   }
 
   @Override
   public void onScrollStateChanged(AbsListView view, int scrollState) {
+    mScrollState = scrollState;
+    if (mFrameMonitor != null) {
+      if (scrollState == OnScrollListener.SCROLL_STATE_IDLE) {
+        mFrameMonitor.stop();
+      } else {
+        mFrameMonitor.start();
+      }
+    }
     mScrollStateChangedRunnable.doScrollStateChange(scrollState);
   }
 
@@ -211,18 +408,31 @@ public abstract class DayPickerView extends ListView implements OnScrollListener
 
     public void doScrollStateChange(int scrollState) {
       mHandler.removeCallbacks(this);
+      if (scrollState != OnScrollListener.SCROLL_STATE_IDLE) {
+        mPrerenderScheduler.cancel();
+      }
       mNewState = scrollState;
       mHandler.postDelayed(this, SCROLL_CHANGE_DELAY);
     }
 
     @Override
     public void run() {
+      int shift = 0;
       mCurrentScrollState = mNewState;
       if (Log.isLoggable(TAG, Log.DEBUG)) {
         Log.d(TAG,
             "new scroll state: " + mNewState + " old state: " + mPreviousScrollState);
       }
 
+      if (mNewState == OnScrollListener.SCROLL_STATE_IDLE) {
+        if (mJumping) {
+          onJumpFinished();
+        }
+        flushAccessibilityInvalidations();
+        shift = recenterWindowIfNeeded();
+        schedulePrerender(getMostVisiblePosition() - shift);
+      }
+
       if (mNewState == OnScrollListener.SCROLL_STATE_IDLE
           && mPreviousScrollState != OnScrollListener.SCROLL_STATE_IDLE
           && mPreviousScrollState != OnScrollListener.SCROLL_STATE_TOUCH_SCROLL) {
@@ -235,8 +445,8 @@ public abstract class DayPickerView extends ListView implements OnScrollListener
         if (child == null) {
           return;
         }
-        int firstPosition = getFirstVisiblePosition();
-        int lastPosition = getLastVisiblePosition();
+        int firstPosition = getFirstVisiblePosition() - shift;
+        int lastPosition = getLastVisiblePosition() - shift;
         boolean scroll = firstPosition != 0 && lastPosition != getCount() - 1;
         final int top = child.getTop();
         final int bottom = child.getBottom();
@@ -254,6 +464,26 @@ public abstract class DayPickerView extends ListView implements OnScrollListener
     }
   }
 
+  @Override
+  public boolean isScrolling() {
+    return mScrollState != OnScrollListener.SCROLL_STATE_IDLE;
+  }
+
+  public void setAnnouncementInterval(long millis) {
+    mAnnouncer.setMinIntervalMillis(millis);
+  }
+
+  private void flushAccessibilityInvalidations() {
+    final int childCount = getChildCount();
+    for (int i = 0; i < childCount; i++) {
+      final View child = getChildAt(i);
+      if (child instanceof MonthView) {
+        ((MonthView) child).flushAccessibilityInvalidation();
+      }
+    }
+  }
+
+  @Override
   public int getMostVisiblePosition() {
     final int firstPosition = getFirstVisiblePosition();
     final int height = getHeight();
@@ -280,7 +510,8 @@ public abstract class DayPickerView extends ListView implements OnScrollListener
 
   @Override
   public void onDateChanged() {
-    goTo(mController.getSelectedDay(), false, true, true);
+    mController.getSelectedDay(mControllerDay);
+    goTo(mControllerDay, false, true, true);
   }
 
   private MonthAdapter.CalendarDay findAccessibilityFocus() {
@@ -322,7 +553,20 @@ public abstract class DayPickerView extends ListView implements OnScrollListener
   @Override
   protected void layoutChildren() {
     final MonthAdapter.CalendarDay focusedDay = findAccessibilityFocus();
-    super.layoutChildren();
+    final PickerMetrics metrics = PickerTrace.getMetrics();
+    final long start = metrics != null ? System.nanoTime() : 0;
+    PickerTrace.beginSection(PickerTrace.SECTION_LAYOUT);
+    try {
+      super.layoutChildren();
+    } finally {
+      PickerTrace.endSection();
+    }
+    if (metrics != null) {
+      metrics.onLayout(getChildCount(), System.nanoTime() - start);
+    }
+    if (!isScrolling()) {
+      flushAccessibilityInvalidations();
+    }
     if (mPerformingScroll) {
       mPerformingScroll = false;
     } else {
@@ -337,12 +581,8 @@ public abstract class DayPickerView extends ListView implements OnScrollListener
   }
 
   private String getMonthAndYearString(MonthAdapter.CalendarDay day) {
-    Calendar cal = Calendar.getInstance();
-    cal.set(day.year, day.month, day.day);
-
-    return cal.getDisplayName(Calendar.MONTH, Calendar.LONG, Locale.getDefault())
-        + " "
-        + YEAR_FORMAT.format(cal.getTime());
+    return MonthTitleCache.getTitle(getContext(), day.year, day.month,
+        MonthView.MONTH_TITLE_FLAGS);
   }
 
   @Override
@@ -358,10 +598,10 @@ public abstract class DayPickerView extends ListView implements OnScrollListener
       return super.performAccessibilityAction(action, arguments);
     }
 
+    final MonthPositionWindow window = mAdapter.getPositionWindow();
     int firstVisiblePosition = getFirstVisiblePosition();
-    int month = firstVisiblePosition % 12;
-    int year = firstVisiblePosition / 12 + mController.getMinYear();
-    MonthAdapter.CalendarDay day = new MonthAdapter.CalendarDay(year, month, 1);
+    final MonthAdapter.CalendarDay day = mAccessibilityDay;
+    day.setDay(window.getYear(firstVisiblePosition), window.getMonth(firstVisiblePosition), 1);
 
     if (action == AccessibilityNodeInfo.ACTION_SCROLL_FORWARD) {
       day.month++;
@@ -381,8 +621,7 @@ public abstract class DayPickerView extends ListView implements OnScrollListener
       }
     }
 
-    Utils.tryAccessibilityAnnounce(this,
-        getMonthAndYearString(day));
+    mAnnouncer.announce(getMonthAndYearString(day));
     goTo(day, true, false, true);
     mPerformingScroll = true;
     return true;
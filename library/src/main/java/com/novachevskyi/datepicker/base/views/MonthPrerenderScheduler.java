@@ -0,0 +1,92 @@
+package com.novachevskyi.datepicker.base.views;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.MessageQueue;
+import android.os.SystemClock;
+
+final class MonthPrerenderScheduler implements MessageQueue.IdleHandler {
+
+  static final int DEFAULT_FRAME_BUDGET_MILLIS = 4;
+
+  private final Task mTask;
+  private final Handler mHandler = new Handler(Looper.getMainLooper());
+
+  private int[] mPositions = new int[0];
+  private int mHead;
+  private int mTail;
+  private boolean mScheduled;
+  private long mFrameBudgetMillis = DEFAULT_FRAME_BUDGET_MILLIS;
+
+  interface Task {
+    void prerenderMonth(int position);
+  }
+
+  private final Runnable mWakeUp = new Runnable() {
+    @Override
+    public void run() {
+    }
+  };
+
+  MonthPrerenderScheduler(Task task) {
+    mTask = task;
+  }
+
+  void setFrameBudgetMillis(long frameBudgetMillis) {
+    mFrameBudgetMillis = frameBudgetMillis;
+  }
+
+  void schedule(int centerPosition, int months, int count) {
+    cancel();
+    if (mPositions.length < months * 2) {
+      mPositions = new int[months * 2];
+    }
+    for (int i = 1; i <= months; i++) {
+      if (centerPosition + i < count) {
+        mPositions[mTail++] = centerPosition + i;
+      }
+      if (centerPosition - i >= 0) {
+        mPositions[mTail++] = centerPosition - i;
+      }
+    }
+    if (mTail > 0) {
+      mScheduled = true;
+      Looper.myQueue().addIdleHandler(this);
+      mHandler.post(mWakeUp);
+    }
+  }
+
+  void cancel() {
+    mHead = 0;
+    mTail = 0;
+    if (mScheduled) {
+      mScheduled = false;
+      Looper.myQueue().removeIdleHandler(this);
+      mHandler.removeCallbacks(mWakeUp);
+    }
+  }
+
+  boolean isScheduled() {
+    return mScheduled;
+  }
+
+  @Override
+  public boolean queueIdle() {
+    if (!mScheduled) {
+      return false;
+    }
+    final long deadline = SystemClock.uptimeMillis() + mFrameBudgetMillis;
+    do {
+      mTask.prerenderMonth(mPositions[mHead++]);
+    } while (mHead < mTail && mScheduled && SystemClock.uptimeMillis() < deadline);
+
+    if (mHead < mTail && mScheduled) {
+      mHandler.post(mWakeUp);
+      return true;
+    }
+    mHead = 0;
+    mTail = 0;
+    mScheduled = false;
+    return false;
+  }
+}
@@ -2,6 +2,7 @@ package com.novachevskyi.datepicker.base.views;
 
 import android.content.Context;
 import android.content.res.Resources;
+import android.graphics.Bitmap;
 import android.graphics.Canvas;
 import android.graphics.Paint;
 import android.graphics.Paint.Align;
@@ -13,22 +14,29 @@ import android.support.annotation.NonNull;
 import android.support.v4.view.ViewCompat;
 import android.support.v4.view.accessibility.AccessibilityNodeInfoCompat;
 import android.support.v4.widget.ExploreByTouchHelper;
-import android.text.format.DateFormat;
-import android.text.format.DateUtils;
-import android.text.format.Time;
 import android.view.MotionEvent;
 import android.view.View;
+import android.view.ViewParent;
 import android.view.accessibility.AccessibilityEvent;
 import android.view.accessibility.AccessibilityNodeInfo;
 import com.novachevskyi.datepicker.R;
 import com.novachevskyi.datepicker.base.adapters.MonthAdapter;
-import com.novachevskyi.datepicker.utils.Utils;
+import com.novachevskyi.datepicker.base.decorations.MonthDecorations;
+import com.novachevskyi.datepicker.base.metrics.PickerMetrics;
+import com.novachevskyi.datepicker.base.metrics.PickerTrace;
+import com.novachevskyi.datepicker.utils.DayDescriptionCache;
+import com.novachevskyi.datepicker.utils.DayNumberCache;
+import com.novachevskyi.datepicker.utils.EpochDaySet;
+import com.novachevskyi.datepicker.utils.MonthLayoutTable;
+import com.novachevskyi.datepicker.utils.MonthState;
+import com.novachevskyi.datepicker.utils.MonthTileCache;
+import com.novachevskyi.datepicker.utils.MonthTitleCache;
+import com.novachevskyi.datepicker.utils.TodaySnapshot;
+import com.novachevskyi.datepicker.utils.WeekdayLabels;
 import java.security.InvalidParameterException;
 import java.util.Calendar;
-import java.util.Formatter;
 import java.util.HashMap;
 import java.util.List;
-import java.util.Locale;
 
 public abstract class MonthView extends View {
 
@@ -48,12 +56,16 @@ public abstract class MonthView extends View {
 
   private static final int SELECTED_CIRCLE_ALPHA = 60;
 
+  public static final int MONTH_TITLE_FLAGS = MonthState.MONTH_TITLE_FLAGS;
+
   protected static int DAY_SEPARATOR_WIDTH = 1;
   protected static int MINI_DAY_NUMBER_TEXT_SIZE;
   protected static int MONTH_LABEL_TEXT_SIZE;
   protected static int MONTH_DAY_LABEL_TEXT_SIZE;
   protected static int MONTH_HEADER_SIZE;
   protected static int DAY_SELECTED_CIRCLE_SIZE;
+  protected static int DAY_DECORATION_DOT_RADIUS;
+  protected static int DAY_DECORATION_LABEL_TEXT_SIZE;
 
   protected int mPadding = 0;
 
@@ -61,34 +73,63 @@ public abstract class MonthView extends View {
   protected Paint mMonthTitlePaint;
   protected Paint mMonthTitleBGPaint;
   protected Paint mSelectedCirclePaint;
+  protected Paint mRangePaint;
   protected Paint mMonthDayLabelPaint;
+  protected Paint mDecorationPaint;
 
-  private final Formatter mFormatter;
-  private final StringBuilder mStringBuilder;
+  protected DayNumberCache mDayNumbers = DayNumberCache.getInstance();
 
   protected int mMonth;
 
   protected int mYear;
+  protected String mMonthTitle;
   protected int mWidth;
   protected int mRowHeight = DEFAULT_HEIGHT;
   protected boolean mHasToday = false;
   protected int mSelectedDay = -1;
   protected int mToday = DEFAULT_SELECTED_DAY;
+  protected int mFirstEpochDay;
+  protected int mDisabledDays = 0;
+  protected int mSelectedDays = 0;
+  protected int mRangeFirstDay = DEFAULT_SELECTED_DAY;
+  protected int mRangeLastDay = DEFAULT_SELECTED_DAY;
+  protected int mRangeStartDay = DEFAULT_SELECTED_DAY;
+  protected int mRangeEndDay = DEFAULT_SELECTED_DAY;
   protected int mWeekStart = DEFAULT_WEEK_START;
   protected int mNumDays = DEFAULT_NUM_DAYS;
   protected int mNumCells = mNumDays;
 
-  private final Calendar mCalendar;
-  private final Calendar mDayLabelCalendar;
+  protected boolean mDrawingStaticLayer = false;
+
+  protected MonthDecorations mDecorations;
+
   private final MonthViewTouchHelper mTouchHelper;
 
   private int mNumRows = DEFAULT_NUM_ROWS;
+  private int mDayOffset = 0;
+
+  private final MonthState mState = new MonthState();
 
   private OnDayClickListener mOnDayClickListener;
   private boolean mLockAccessibilityDelegate;
+  private boolean mAccessibilityInvalidationPending;
+
+  private boolean mTileCacheEnabled = false;
+  private Bitmap mTile;
+
+  private TodaySnapshot mTodaySnapshot;
+  private MonthLayoutTable mLayoutTable;
+  private EpochDaySet mDisabledDaySet;
+  private EpochDaySet mSelectedDaySet;
+
+  private final Rect mDirtyRect = new Rect();
+  private final Rect mTileRect = new Rect();
 
   protected int mDayTextColor;
   protected int mTodayNumberColor;
+  protected int mDisabledDayTextColor;
+  protected int mRangeBackgroundColor;
+  protected int mDecorationDotColor;
   protected int mMonthTitleColor;
   protected int mMonthTitleBGColor;
 
@@ -97,23 +138,23 @@ public abstract class MonthView extends View {
 
     Resources res = context.getResources();
 
-    mDayLabelCalendar = Calendar.getInstance();
-    mCalendar = Calendar.getInstance();
-
     mDayTextColor = res.getColor(R.color.date_picker_text_normal);
     mTodayNumberColor = res.getColor(R.color.bpBlue);
+    mDisabledDayTextColor = res.getColor(R.color.date_picker_text_disabled);
+    mRangeBackgroundColor = res.getColor(R.color.date_picker_range_background);
+    mDecorationDotColor = res.getColor(R.color.date_picker_decoration_dot);
     mMonthTitleColor = res.getColor(R.color.bpWhite);
     mMonthTitleBGColor = res.getColor(R.color.circle_background);
 
-    mStringBuilder = new StringBuilder(50);
-    mFormatter = new Formatter(mStringBuilder, Locale.getDefault());
-
     MINI_DAY_NUMBER_TEXT_SIZE = res.getDimensionPixelSize(R.dimen.day_number_size);
     MONTH_LABEL_TEXT_SIZE = res.getDimensionPixelSize(R.dimen.month_label_size);
     MONTH_DAY_LABEL_TEXT_SIZE = res.getDimensionPixelSize(R.dimen.month_day_label_text_size);
     MONTH_HEADER_SIZE = res.getDimensionPixelOffset(R.dimen.month_list_item_header_height);
     DAY_SELECTED_CIRCLE_SIZE = res
         .getDimensionPixelSize(R.dimen.day_number_select_circle_radius);
+    DAY_DECORATION_DOT_RADIUS = res.getDimensionPixelSize(R.dimen.day_decoration_dot_radius);
+    DAY_DECORATION_LABEL_TEXT_SIZE =
+        res.getDimensionPixelSize(R.dimen.day_decoration_label_text_size);
 
     mRowHeight = (res.getDimensionPixelOffset(R.dimen.date_picker_view_animator_height)
         - MONTH_HEADER_SIZE) / MAX_NUM_ROWS;
@@ -138,6 +179,45 @@ public abstract class MonthView extends View {
     mOnDayClickListener = listener;
   }
 
+  public void setTodaySnapshot(TodaySnapshot today) {
+    mTodaySnapshot = today;
+  }
+
+  public void setMonthLayoutTable(MonthLayoutTable table) {
+    mLayoutTable = table;
+  }
+
+  public void setDisabledDays(EpochDaySet disabledDays) {
+    mDisabledDaySet = disabledDays;
+  }
+
+  public void setSelectedDays(EpochDaySet selectedDays) {
+    mSelectedDaySet = selectedDays;
+  }
+
+  public boolean isDaySelected(int day) {
+    return mState.isDaySelected(day);
+  }
+
+  public boolean isDayDisabled(int day) {
+    return mState.isDayDisabled(day);
+  }
+
+  public void setDecorations(MonthDecorations decorations) {
+    if (mDecorations != decorations) {
+      mDecorations = decorations;
+      invalidate();
+    }
+  }
+
+  public void setTileCacheEnabled(boolean enabled) {
+    if (mTileCacheEnabled != enabled) {
+      mTileCacheEnabled = enabled;
+      mTile = null;
+      invalidate();
+    }
+  }
+
   @Override
   public boolean onTouchEvent(@NonNull MotionEvent event) {
     switch (event.getAction()) {
@@ -175,6 +255,11 @@ public abstract class MonthView extends View {
     mSelectedCirclePaint.setStyle(Style.FILL);
     mSelectedCirclePaint.setAlpha(SELECTED_CIRCLE_ALPHA);
 
+    mRangePaint = new Paint();
+    mRangePaint.setAntiAlias(true);
+    mRangePaint.setColor(mRangeBackgroundColor);
+    mRangePaint.setStyle(Style.FILL);
+
     mMonthDayLabelPaint = new Paint();
     mMonthDayLabelPaint.setAntiAlias(true);
     mMonthDayLabelPaint.setTextSize(MONTH_DAY_LABEL_TEXT_SIZE);
@@ -183,6 +268,12 @@ public abstract class MonthView extends View {
     mMonthDayLabelPaint.setTextAlign(Align.CENTER);
     mMonthDayLabelPaint.setFakeBoldText(true);
 
+    mDecorationPaint = new Paint();
+    mDecorationPaint.setAntiAlias(true);
+    mDecorationPaint.setTextSize(DAY_DECORATION_LABEL_TEXT_SIZE);
+    mDecorationPaint.setStyle(Style.FILL);
+    mDecorationPaint.setTextAlign(Align.CENTER);
+
     mMonthNumPaint = new Paint();
     mMonthNumPaint.setAntiAlias(true);
     mMonthNumPaint.setTextSize(MINI_DAY_NUMBER_TEXT_SIZE);
@@ -193,77 +284,247 @@ public abstract class MonthView extends View {
 
   @Override
   protected void onDraw(Canvas canvas) {
+    final PickerMetrics metrics = PickerTrace.getMetrics();
+    final long start = metrics != null ? System.nanoTime() : 0;
+    PickerTrace.beginSection(PickerTrace.SECTION_DRAW_MONTH);
+    try {
+      drawMonth(canvas);
+    } finally {
+      PickerTrace.endSection();
+    }
+    if (metrics != null) {
+      metrics.onMonthDrawn(mYear, mMonth, System.nanoTime() - start);
+    }
+  }
+
+  private void drawMonth(Canvas canvas) {
+    mDayNumbers = DayNumberCache.getInstance();
+    if (mTileCacheEnabled && mWidth > 0) {
+      if (mTile == null) {
+        mTile = getStaticTile();
+      }
+      drawStaticTile(canvas);
+      drawDynamicMonthDays(canvas);
+      drawDayDecorations(canvas);
+      return;
+    }
     drawMonthTitle(canvas);
     drawMonthDayLabels(canvas);
     drawMonthNums(canvas);
+    drawDayDecorations(canvas);
+  }
+
+  public void prerenderTile(int width) {
+    if (!mTileCacheEnabled || width <= 0) {
+      return;
+    }
+    mWidth = width;
+    getStaticTile();
+  }
+
+  private Bitmap getStaticTile() {
+    final MonthTileCache cache = MonthTileCache.getInstance();
+    final int style = getTileStyle();
+    Bitmap tile = cache.get(mYear, mMonth, mWeekStart, mDisabledDays, mWidth, mRowHeight, style);
+    if (tile == null) {
+      tile = Bitmap.createBitmap(mWidth, mRowHeight * mNumRows + MONTH_HEADER_SIZE,
+          Bitmap.Config.ARGB_8888);
+      Canvas tileCanvas = new Canvas(tile);
+      mDrawingStaticLayer = true;
+      drawMonthTitle(tileCanvas);
+      drawMonthDayLabels(tileCanvas);
+      drawMonthNums(tileCanvas);
+      mDrawingStaticLayer = false;
+      cache.put(mYear, mMonth, mWeekStart, mDisabledDays, mWidth, mRowHeight, style, tile);
+    }
+    return tile;
+  }
+
+  protected int getTileStyle() {
+    int style = mDayTextColor;
+    style = 31 * style + mDisabledDayTextColor;
+    style = 31 * style + mMonthTitleColor;
+    style = 31 * style + mPadding;
+    style = 31 * style + MINI_DAY_NUMBER_TEXT_SIZE;
+    style = 31 * style + MONTH_LABEL_TEXT_SIZE;
+    style = 31 * style + MONTH_DAY_LABEL_TEXT_SIZE;
+    return style;
+  }
+
+  protected boolean isDynamicDay(int day) {
+    return mState.isDynamicDay(day);
+  }
+
+  public boolean isDayInRange(int day) {
+    return mState.isDayInRange(day);
+  }
+
+  // Copies the header and the cells of static days only, so the dynamic layer draws selected,
+  // today and range days onto an empty cell instead of over the tile's plain day number.
+  private void drawStaticTile(Canvas canvas) {
+    mTileRect.set(0, 0, mTile.getWidth(), MONTH_HEADER_SIZE);
+    canvas.drawBitmap(mTile, mTileRect, mTileRect, null);
+
+    final int cellWidth = 2 * ((mWidth - mPadding * 2) / (mNumDays * 2));
+    final int dayOffset = findDayOffset();
+    int runStart = -1;
+    for (int day = 1; day <= mNumCells + 1; day++) {
+      final int index = day - 1 + dayOffset;
+      final boolean isStatic = day <= mNumCells && !isDynamicDay(day);
+      if (runStart >= 0 && (!isStatic || index % mNumDays == 0)) {
+        drawTileCells(canvas, runStart, index - 1, cellWidth);
+        runStart = -1;
+      }
+      if (isStatic && runStart < 0) {
+        runStart = index;
+      }
+    }
   }
 
-  private int mDayOfWeekStart = 0;
+  private void drawTileCells(Canvas canvas, int firstIndex, int lastIndex, int cellWidth) {
+    final int top = MONTH_HEADER_SIZE + (firstIndex / mNumDays) * mRowHeight;
+    mTileRect.set(mPadding + (firstIndex % mNumDays) * cellWidth, top,
+        mPadding + (lastIndex % mNumDays + 1) * cellWidth, top + mRowHeight);
+    canvas.drawBitmap(mTile, mTileRect, mTileRect, null);
+  }
 
+  private void drawDynamicMonthDays(Canvas canvas) {
+    for (int day = 1; day <= mNumCells; day++) {
+      if (isDynamicDay(day)) {
+        drawMonthDayCell(canvas, day);
+      }
+    }
+  }
+
+  @Deprecated
   public void setMonthParams(HashMap<String, Integer> params) {
     if (!params.containsKey(VIEW_PARAMS_MONTH) && !params.containsKey(VIEW_PARAMS_YEAR)) {
       throw new InvalidParameterException("You must specify month and year for this view");
     }
     setTag(params);
 
+    int rowHeight = mRowHeight;
     if (params.containsKey(VIEW_PARAMS_HEIGHT)) {
-      mRowHeight = params.get(VIEW_PARAMS_HEIGHT);
-      if (mRowHeight < MIN_HEIGHT) {
-        mRowHeight = MIN_HEIGHT;
-      }
+      rowHeight = params.get(VIEW_PARAMS_HEIGHT);
     }
+    int selectedDay = mSelectedDay;
     if (params.containsKey(VIEW_PARAMS_SELECTED_DAY)) {
-      mSelectedDay = params.get(VIEW_PARAMS_SELECTED_DAY);
+      selectedDay = params.get(VIEW_PARAMS_SELECTED_DAY);
+    }
+    int weekStart;
+    if (params.containsKey(VIEW_PARAMS_WEEK_START)) {
+      weekStart = params.get(VIEW_PARAMS_WEEK_START);
+    } else {
+      weekStart = Calendar.getInstance().getFirstDayOfWeek();
     }
 
-    mMonth = params.get(VIEW_PARAMS_MONTH);
-    mYear = params.get(VIEW_PARAMS_YEAR);
-
-    final Time today = new Time(Time.getCurrentTimezone());
-    today.setToNow();
-    mHasToday = false;
-    mToday = -1;
+    setMonthParams(params.get(VIEW_PARAMS_YEAR), params.get(VIEW_PARAMS_MONTH), selectedDay,
+        weekStart, rowHeight);
+  }
 
-    mCalendar.set(Calendar.MONTH, mMonth);
-    mCalendar.set(Calendar.YEAR, mYear);
-    mCalendar.set(Calendar.DAY_OF_MONTH, 1);
-    mDayOfWeekStart = mCalendar.get(Calendar.DAY_OF_WEEK);
+  public void setMonthParams(int year, int month, int selectedDay, int weekStart) {
+    setMonthParams(year, month, selectedDay, weekStart, mRowHeight);
+  }
 
-    if (params.containsKey(VIEW_PARAMS_WEEK_START)) {
-      mWeekStart = params.get(VIEW_PARAMS_WEEK_START);
-    } else {
-      mWeekStart = mCalendar.getFirstDayOfWeek();
+  public void setMonthParams(int year, int month, int selectedDay, int weekStart,
+      int rowHeight) {
+    mRowHeight = rowHeight;
+    if (mRowHeight < MIN_HEIGHT) {
+      mRowHeight = MIN_HEIGHT;
     }
+    mSelectedDay = selectedDay;
+    mWeekStart = weekStart;
 
-    mNumCells = Utils.getDaysInMonth(mMonth, mYear);
-    for (int i = 0; i < mNumCells; i++) {
-      final int day = i + 1;
-      if (sameDay(day, today)) {
-        mHasToday = true;
-        mToday = day;
-      }
+    mMonth = month;
+    mYear = year;
+    mMonthTitle = MonthTitleCache.getTitle(getContext(), mYear, mMonth, MONTH_TITLE_FLAGS);
+    mTile = null;
+
+    final TodaySnapshot today =
+        mTodaySnapshot != null ? mTodaySnapshot : TodaySnapshot.getDefault();
+    mState.setMonth(mYear, mMonth, mSelectedDay, mWeekStart, today, mLayoutTable,
+        mDisabledDaySet, mSelectedDaySet);
+    syncState();
+
+    invalidateAccessibility();
+  }
+
+  // The protected fields stay readable by subclasses; MonthState owns the derivation, which is
+  // shared with the allocation benchmarks.
+  private void syncState() {
+    mSelectedDay = mState.getSelectedDay();
+    mToday = mState.getToday();
+    mHasToday = mState.hasToday();
+    mDayOffset = mState.getDayOffset();
+    mNumCells = mState.getNumCells();
+    mNumRows = mState.getNumRows();
+    mFirstEpochDay = mState.getFirstEpochDay();
+    mDisabledDays = mState.getDisabledDays();
+    mSelectedDays = mState.getSelectedDays();
+    mRangeFirstDay = mState.getRangeFirstDay();
+    mRangeLastDay = mState.getRangeLastDay();
+    mRangeStartDay = mState.getRangeStartDay();
+    mRangeEndDay = mState.getRangeEndDay();
+  }
+
+  public int getYear() {
+    return mYear;
+  }
+
+  public int getMonth() {
+    return mMonth;
+  }
+
+  public int getSelectedDay() {
+    return mSelectedDay;
+  }
+
+  public void setSelectedDay(int day) {
+    final int previousDay = mSelectedDay;
+    if (!mState.setSelectedDay(day)) {
+      return;
     }
-    mNumRows = calculateNumRows();
+    syncState();
+    invalidateDay(previousDay);
+    invalidateDay(day);
+  }
 
-    mTouchHelper.invalidateRoot();
+  public void refreshSelectedDays() {
+    int changedDays = mState.refreshSelectedDays(mSelectedDaySet);
+    syncState();
+    while (changedDays != 0) {
+      invalidateDay(Integer.numberOfTrailingZeros(changedDays) + 1);
+      changedDays &= changedDays - 1;
+    }
   }
 
-  public void reuse() {
-    mNumRows = DEFAULT_NUM_ROWS;
-    requestLayout();
+  public void setSelectedRange(int startEpochDay, int endEpochDay) {
+    if (!mState.setSelectedRange(startEpochDay, endEpochDay)) {
+      return;
+    }
+    syncState();
+    invalidate();
+    invalidateAccessibility();
   }
 
-  private int calculateNumRows() {
-    int offset = findDayOffset();
-    int dividend = (offset + mNumCells) / mNumDays;
-    int remainder = (offset + mNumCells) % mNumDays;
-    return (dividend + (remainder > 0 ? 1 : 0));
+  protected void invalidateDay(int day) {
+    if (day < 1 || day > mNumCells) {
+      return;
+    }
+    final int index = day - 1 + findDayOffset();
+    final int x = getDayCenterX(index);
+    final int y = getDayBaselineY(index) - (MINI_DAY_NUMBER_TEXT_SIZE / 3);
+
+    getDayBounds(day, mDirtyRect);
+    mDirtyRect.union(x - DAY_SELECTED_CIRCLE_SIZE, y - DAY_SELECTED_CIRCLE_SIZE,
+        x + DAY_SELECTED_CIRCLE_SIZE, y + DAY_SELECTED_CIRCLE_SIZE);
+    invalidate(mDirtyRect);
+    mTouchHelper.invalidateVirtualView(day);
   }
 
-  private boolean sameDay(int day, Time today) {
-    return mYear == today.year &&
-        mMonth == today.month &&
-        day == today.monthDay;
+  public void reuse() {
+    mNumRows = DEFAULT_NUM_ROWS;
+    requestLayout();
   }
 
   @Override
@@ -275,36 +536,57 @@ public abstract class MonthView extends View {
   @Override
   protected void onSizeChanged(int w, int h, int oldw, int oldh) {
     mWidth = w;
+    mTile = null;
+
+    invalidateAccessibility();
+  }
 
+  protected void invalidateAccessibility() {
+    if (isAccessibilityInvalidationDeferred()) {
+      mAccessibilityInvalidationPending = true;
+      return;
+    }
+    mAccessibilityInvalidationPending = false;
     mTouchHelper.invalidateRoot();
   }
 
-  private String getMonthAndYearString() {
-    int flags = DateUtils.FORMAT_SHOW_DATE | DateUtils.FORMAT_SHOW_YEAR
-        | DateUtils.FORMAT_NO_MONTH_DAY;
-    mStringBuilder.setLength(0);
-    long millis = mCalendar.getTimeInMillis();
-    return DateUtils.formatDateRange(getContext(), mFormatter, millis, millis, flags,
-        Time.getCurrentTimezone()).toString();
+  private boolean isAccessibilityInvalidationDeferred() {
+    final ViewParent parent = getParent();
+    return parent == null || (parent instanceof DayPicker && ((DayPicker) parent).isScrolling());
+  }
+
+  @Override
+  protected void onAttachedToWindow() {
+    super.onAttachedToWindow();
+    if (!isAccessibilityInvalidationDeferred()) {
+      flushAccessibilityInvalidation();
+    }
+  }
+
+  public void flushAccessibilityInvalidation() {
+    if (mAccessibilityInvalidationPending) {
+      mAccessibilityInvalidationPending = false;
+      mTouchHelper.invalidateRoot();
+    }
   }
 
   private void drawMonthTitle(Canvas canvas) {
+    if (mMonthTitle == null) {
+      return;
+    }
     int x = (mWidth + 2 * mPadding) / 2;
     int y = (MONTH_HEADER_SIZE - MONTH_DAY_LABEL_TEXT_SIZE) / 2 + (MONTH_LABEL_TEXT_SIZE / 3);
-    canvas.drawText(getMonthAndYearString(), x, y, mMonthTitlePaint);
+    canvas.drawText(mMonthTitle, x, y, mMonthTitlePaint);
   }
 
   private void drawMonthDayLabels(Canvas canvas) {
     int y = MONTH_HEADER_SIZE - (MONTH_DAY_LABEL_TEXT_SIZE / 2);
     int dayWidthHalf = (mWidth - mPadding * 2) / (mNumDays * 2);
 
+    WeekdayLabels labels = WeekdayLabels.getInstance(mWeekStart, Calendar.SHORT);
     for (int i = 0; i < mNumDays; i++) {
-      int calendarDay = (i + mWeekStart) % mNumDays;
       int x = (2 * i + 1) * dayWidthHalf + mPadding;
-      mDayLabelCalendar.set(Calendar.DAY_OF_WEEK, calendarDay);
-      canvas.drawText(mDayLabelCalendar.getDisplayName(Calendar.DAY_OF_WEEK, Calendar.SHORT,
-              Locale.getDefault()).toUpperCase(Locale.getDefault()), x, y,
-          mMonthDayLabelPaint);
+      canvas.drawText(labels.getLabel(i), x, y, mMonthDayLabelPaint);
     }
   }
 
@@ -333,12 +615,78 @@ public abstract class MonthView extends View {
     }
   }
 
+  private void drawDayDecorations(Canvas canvas) {
+    if (mDecorations == null) {
+      return;
+    }
+    int days = mDecorations.getDecoratedDays();
+    while (days != 0) {
+      final int day = Integer.numberOfTrailingZeros(days) + 1;
+      days &= days - 1;
+      if (day <= mNumCells) {
+        final int index = day - 1 + findDayOffset();
+        drawDayDecoration(canvas, day, getDayCenterX(index), getDayBaselineY(index));
+      }
+    }
+  }
+
+  protected void drawDayDecoration(Canvas canvas, int day, int x, int y) {
+    final CharSequence label = mDecorations.getLabel(day);
+    if (label != null) {
+      mDecorationPaint.setColor(isDayDisabled(day) ? mDisabledDayTextColor : mDayTextColor);
+      canvas.drawText(label, 0, label.length(), x,
+          y + DAY_DECORATION_LABEL_TEXT_SIZE + DAY_DECORATION_DOT_RADIUS, mDecorationPaint);
+    } else if (mDecorations.hasDot(day)) {
+      mDecorationPaint.setColor(mDecorations.getDotColor(day));
+      canvas.drawCircle(x, y + DAY_DECORATION_DOT_RADIUS * 3, DAY_DECORATION_DOT_RADIUS,
+          mDecorationPaint);
+    }
+  }
+
+  private void drawMonthDayCell(Canvas canvas, int day) {
+    int dayWidthHalf = (mWidth - mPadding * 2) / (mNumDays * 2);
+    int index = day - 1 + findDayOffset();
+    int x = getDayCenterX(index);
+    int y = getDayBaselineY(index);
+
+    int startY = MONTH_HEADER_SIZE + (index / mNumDays) * mRowHeight;
+    drawMonthDay(canvas, mYear, mMonth, day, x, y, x - dayWidthHalf, x + dayWidthHalf, startY,
+        startY + mRowHeight);
+  }
+
+  private int getDayCenterX(int index) {
+    int dayWidthHalf = (mWidth - mPadding * 2) / (mNumDays * 2);
+    return (2 * (index % mNumDays) + 1) * dayWidthHalf + mPadding;
+  }
+
+  private int getDayBaselineY(int index) {
+    return (mRowHeight + MINI_DAY_NUMBER_TEXT_SIZE) / 2 - DAY_SEPARATOR_WIDTH + MONTH_HEADER_SIZE
+        + (index / mNumDays) * mRowHeight;
+  }
+
+  protected void getDayBounds(int day, Rect rect) {
+    final int offsetX = mPadding;
+    final int offsetY = MONTH_HEADER_SIZE;
+    final int cellHeight = mRowHeight;
+    final int cellWidth = ((mWidth - (2 * mPadding)) / mNumDays);
+    final int index = ((day - 1) + findDayOffset());
+    final int row = (index / mNumDays);
+    final int column = (index % mNumDays);
+    final int x = (offsetX + (column * cellWidth));
+    final int y = (offsetY + (row * cellHeight));
+
+    rect.set(x, y, (x + cellWidth), (y + cellHeight));
+  }
+
+  protected String getDayNumberString(int day) {
+    return mDayNumbers.getDayNumber(day);
+  }
+
   public abstract void drawMonthDay(Canvas canvas, int year, int month, int day,
       int x, int y, int startX, int stopX, int startY, int stopY);
 
   private int findDayOffset() {
-    return (mDayOfWeekStart < mWeekStart ? (mDayOfWeekStart + mNumDays) : mDayOfWeekStart)
-        - mWeekStart;
+    return mDayOffset;
   }
 
   public int getDayFromLocation(float x, float y) {
@@ -350,15 +698,14 @@ public abstract class MonthView extends View {
     int row = (int) (y - MONTH_HEADER_SIZE) / mRowHeight;
     int column = (int) ((x - dayStart) * mNumDays / (mWidth - dayStart - mPadding));
 
-    int day = column - findDayOffset() + 1;
-    day += row * mNumDays;
-    if (day < 1 || day > mNumCells) {
-      return -1;
-    }
-    return day;
+    return MonthLayoutTable.getDayAt(row, column, mNumDays, findDayOffset(), mNumCells);
   }
 
   private void onDayClick(int day) {
+    if (isDayDisabled(day)) {
+      return;
+    }
+
     if (mOnDayClickListener != null) {
       mOnDayClickListener.onDayClick(this, new MonthAdapter.CalendarDay(mYear, mMonth, day));
     }
@@ -388,10 +735,7 @@ public abstract class MonthView extends View {
 
   private class MonthViewTouchHelper extends ExploreByTouchHelper {
 
-    private static final String DATE_FORMAT = "dd MMMM yyyy";
-
     private final Rect mTempRect = new Rect();
-    private final Calendar mTempCalendar = Calendar.getInstance();
 
     public MonthViewTouchHelper(View host) {
       super(host);
@@ -438,14 +782,16 @@ public abstract class MonthView extends View {
     @Override
     protected void onPopulateNodeForVirtualView(int virtualViewId,
         AccessibilityNodeInfoCompat node) {
-      getItemBounds(virtualViewId, mTempRect);
+      getDayBounds(virtualViewId, mTempRect);
 
       node.setContentDescription(getItemDescription(virtualViewId));
       node.setBoundsInParent(mTempRect);
 
-      if (virtualViewId == mSelectedDay) {
+      if (virtualViewId == mSelectedDay || isDayInRange(virtualViewId)
+          || isDaySelected(virtualViewId)) {
         node.setSelected(true);
       }
+      node.setEnabled(!isDayDisabled(virtualViewId));
     }
 
     @Override
@@ -460,30 +806,9 @@ public abstract class MonthView extends View {
       return false;
     }
 
-    private void getItemBounds(int day, Rect rect) {
-      final int offsetX = mPadding;
-      final int offsetY = MONTH_HEADER_SIZE;
-      final int cellHeight = mRowHeight;
-      final int cellWidth = ((mWidth - (2 * mPadding)) / mNumDays);
-      final int index = ((day - 1) + findDayOffset());
-      final int row = (index / mNumDays);
-      final int column = (index % mNumDays);
-      final int x = (offsetX + (column * cellWidth));
-      final int y = (offsetY + (row * cellHeight));
-
-      rect.set(x, y, (x + cellWidth), (y + cellHeight));
-    }
-
     private CharSequence getItemDescription(int day) {
-      mTempCalendar.set(mYear, mMonth, day);
-      final CharSequence date = DateFormat.format(DATE_FORMAT,
-          mTempCalendar.getTimeInMillis());
-
-      if (day == mSelectedDay) {
-        return getContext().getString(R.string.item_is_selected, date);
-      }
-
-      return date;
+      return DayDescriptionCache.getDescription(getContext(), mYear, mMonth, day,
+          day == mSelectedDay || isDayInRange(day) || isDaySelected(day));
     }
   }
 
@@ -0,0 +1,411 @@
+package com.novachevskyi.datepicker.base.views;
+
+import android.content.Context;
+import android.database.DataSetObserver;
+import android.util.Log;
+import android.support.v7.widget.LinearLayoutManager;
+import android.support.v7.widget.RecyclerView;
+import android.view.View;
+import android.view.ViewGroup;
+import com.novachevskyi.datepicker.base.CalendarDatePickerController;
+import com.novachevskyi.datepicker.base.adapters.MonthAdapter;
+import com.novachevskyi.datepicker.base.adapters.SimpleMonthAdapter;
+import com.novachevskyi.datepicker.base.decorations.DayDecorationLoader;
+import com.novachevskyi.datepicker.base.decorations.DayDecorationProvider;
+import com.novachevskyi.datepicker.base.decorations.MonthDecorations;
+import com.novachevskyi.datepicker.base.metrics.PickerMetrics;
+import com.novachevskyi.datepicker.base.metrics.PickerTrace;
+import com.novachevskyi.datepicker.base.metrics.ScrollFrameMonitor;
+import com.novachevskyi.datepicker.utils.CalendarMath;
+import com.novachevskyi.datepicker.utils.MonthPositionWindow;
+
+public class RecyclerDayPickerView extends RecyclerView implements DayPicker,
+    DayDecorationLoader.OnDecorationsLoadedListener {
+
+  public static final int DEFAULT_VIEW_POOL_SIZE = 3;
+  public static final int LIST_TOP_OFFSET = -1;
+  public static final int DEFAULT_FAR_JUMP_THRESHOLD = 12;
+
+  private static final String TAG = "RecyclerDayPickerView";
+  private static final int FAR_JUMP_LANDING_MONTHS = 2;
+
+  private static final int MONTH_VIEW_TYPE = 0;
+
+  protected MonthAdapter.CalendarDay mSelectedDay = new MonthAdapter.CalendarDay();
+  protected MonthAdapter.CalendarDay mControllerDay = new MonthAdapter.CalendarDay();
+
+  private final CalendarDatePickerController mController;
+  private final MonthAdapter mMonthAdapter;
+  private final MonthLayoutManager mLayoutManager;
+  private final ScrollFrameMonitor mFrameMonitor = ScrollFrameMonitor.create();
+
+  private int mScrollState = SCROLL_STATE_IDLE;
+
+  private int mFarJumpThreshold = DEFAULT_FAR_JUMP_THRESHOLD;
+  private boolean mJumping;
+  private int mJumpStartBindCount;
+  private int mLastJumpBindCount;
+
+  public RecyclerDayPickerView(Context context, CalendarDatePickerController controller) {
+    super(context);
+    mController = controller;
+    mMonthAdapter = createMonthAdapter(context, controller);
+    mMonthAdapter.setOnDecorationsLoadedListener(this);
+
+    mLayoutManager = new MonthLayoutManager(context);
+    setLayoutManager(mLayoutManager);
+    setHasFixedSize(true);
+    setVerticalScrollBarEnabled(false);
+    setViewPoolSize(DEFAULT_VIEW_POOL_SIZE);
+    setAdapter(new MonthRecyclerAdapter(mMonthAdapter));
+    setOnScrollListener(new MonthScrollListener());
+
+    mController.registerOnDateChangedListener(this);
+    onDateChanged();
+  }
+
+  protected MonthAdapter createMonthAdapter(Context context,
+      CalendarDatePickerController controller) {
+    return new SimpleMonthAdapter(context, controller);
+  }
+
+  public void setWindowMonths(int months) {
+    mMonthAdapter.setWindowMonths(months);
+  }
+
+  public void setViewPoolSize(int size) {
+    getRecycledViewPool().setMaxRecycledViews(MONTH_VIEW_TYPE, size);
+    setItemViewCacheSize(0);
+  }
+
+  @Override
+  public void setFarJumpThreshold(int months) {
+    if (months < FAR_JUMP_LANDING_MONTHS) {
+      throw new IllegalArgumentException("Far jump threshold must be at least "
+          + FAR_JUMP_LANDING_MONTHS + " months");
+    }
+    mFarJumpThreshold = months;
+  }
+
+  @Override
+  public int getLastJumpBindCount() {
+    return mLastJumpBindCount;
+  }
+
+  @Override
+  public MonthAdapter getMonthAdapter() {
+    return mMonthAdapter;
+  }
+
+  @Override
+  public void onChange() {
+    mMonthAdapter.setSelectedDay(mSelectedDay);
+  }
+
+  @Override
+  public void onTodayChanged() {
+    mMonthAdapter.notifyDataSetChanged();
+  }
+
+  @Override
+  public void onDisabledDaysChanged() {
+    mMonthAdapter.notifyDataSetChanged();
+  }
+
+  @Override
+  public void onSelectedDaysChanged() {
+    mMonthAdapter.updateSelectedDays(this);
+  }
+
+  @Override
+  public void setTileCacheEnabled(boolean enabled) {
+    mMonthAdapter.setTileCacheEnabled(enabled);
+  }
+
+  @Override
+  public void setDayDecorationProvider(DayDecorationProvider provider) {
+    mMonthAdapter.setDayDecorationProvider(provider);
+  }
+
+  @Override
+  public void onDecorationsLoaded(int year, int month, MonthDecorations decorations) {
+    final int childCount = getChildCount();
+    for (int i = 0; i < childCount; i++) {
+      final View child = getChildAt(i);
+      if (child instanceof MonthView) {
+        final MonthView monthView = (MonthView) child;
+        if (monthView.getYear() == year && monthView.getMonth() == month) {
+          monthView.setDecorations(decorations);
+        }
+      }
+    }
+  }
+
+  @Override
+  public boolean goTo(MonthAdapter.CalendarDay day, boolean animate, boolean setSelected,
+      boolean forceScroll) {
+    if (setSelected) {
+      mSelectedDay.set(day);
+      mMonthAdapter.updateSelectedDay(mSelectedDay, this);
+      mMonthAdapter.updateSelectedRange(this);
+    }
+
+    final int currentPosition = mLayoutManager.findFirstCompletelyVisibleItemPosition();
+    final int currentMonth = mMonthAdapter.getPositionWindow().getMonthIndex(currentPosition);
+    final int targetMonth = CalendarMath.toMonthIndex(day.year, day.month);
+    if (currentPosition != NO_POSITION && targetMonth == currentMonth && !forceScroll) {
+      return false;
+    }
+    final int position = mMonthAdapter.getPositionForMonth(targetMonth);
+    if (animate) {
+      mJumping = true;
+      mJumpStartBindCount = mMonthAdapter.getBindCount();
+      final int distance = targetMonth - currentMonth;
+      if (currentPosition != NO_POSITION && Math.abs(distance) > mFarJumpThreshold) {
+        jumpNear(position, distance > 0 ? -FAR_JUMP_LANDING_MONTHS : FAR_JUMP_LANDING_MONTHS);
+      } else {
+        smoothScrollToPosition(position);
+      }
+      return true;
+    }
+    postSetSelection(position);
+    return false;
+  }
+
+  private void jumpNear(final int position, int landingOffset) {
+    stopScroll();
+    mLayoutManager.scrollToPositionWithOffset(
+        Math.max(0, Math.min(mMonthAdapter.getCount() - 1, position + landingOffset)), 0);
+    post(new Runnable() {
+      @Override
+      public void run() {
+        smoothScrollToPosition(position);
+      }
+    });
+  }
+
+  private void onJumpFinished() {
+    mJumping = false;
+    mLastJumpBindCount = mMonthAdapter.getBindCount() - mJumpStartBindCount;
+    if (Log.isLoggable(TAG, Log.DEBUG)) {
+      Log.d(TAG, "Jump finished after " + mLastJumpBindCount + " binds");
+    }
+  }
+
+  @Override
+  public void postSetSelection(final int position) {
+    clearFocus();
+    stopScroll();
+    mLayoutManager.scrollToPositionWithOffset(position, 0);
+  }
+
+  @Override
+  public int getMostVisiblePosition() {
+    final int firstPosition = mLayoutManager.findFirstVisibleItemPosition();
+    final int height = getHeight();
+
+    int maxDisplayedHeight = 0;
+    int mostVisibleIndex = 0;
+    final int childCount = getChildCount();
+    for (int i = 0; i < childCount; i++) {
+      final View child = getChildAt(i);
+      final int displayedHeight = Math.min(child.getBottom(), height) - Math.max(0, child.getTop());
+      if (displayedHeight > maxDisplayedHeight) {
+        mostVisibleIndex = i;
+        maxDisplayedHeight = displayedHeight;
+      }
+    }
+    return Math.max(0, firstPosition) + mostVisibleIndex;
+  }
+
+  @Override
+  public void onDateChanged() {
+    mController.getSelectedDay(mControllerDay);
+    goTo(mControllerDay, false, true, true);
+  }
+
+  @Override
+  protected void onAttachedToWindow() {
+    super.onAttachedToWindow();
+    mController.registerOnDateChangedListener(this);
+  }
+
+  @Override
+  protected void onDetachedFromWindow() {
+    super.onDetachedFromWindow();
+    mController.unregisterOnDateChangedListener(this);
+    if (mFrameMonitor != null) {
+      mFrameMonitor.stop();
+    }
+    mMonthAdapter.cancelDecorationLoads();
+  }
+
+  @Override
+  protected void onLayout(boolean changed, int l, int t, int r, int b) {
+    final PickerMetrics metrics = PickerTrace.getMetrics();
+    final long start = metrics != null ? System.nanoTime() : 0;
+    PickerTrace.beginSection(PickerTrace.SECTION_LAYOUT);
+    try {
+      super.onLayout(changed, l, t, r, b);
+    } finally {
+      PickerTrace.endSection();
+    }
+    if (metrics != null) {
+      metrics.onLayout(getChildCount(), System.nanoTime() - start);
+    }
+    if (!isScrolling()) {
+      flushAccessibilityInvalidations();
+    }
+  }
+
+  @Override
+  public boolean isScrolling() {
+    return mScrollState != SCROLL_STATE_IDLE;
+  }
+
+  private void flushAccessibilityInvalidations() {
+    final int childCount = getChildCount();
+    for (int i = 0; i < childCount; i++) {
+      final View child = getChildAt(i);
+      if (child instanceof MonthView) {
+        ((MonthView) child).flushAccessibilityInvalidation();
+      }
+    }
+  }
+
+  private int recenterWindowIfNeeded() {
+    final View child = getChildAt(0);
+    if (child == null) {
+      return 0;
+    }
+    final int firstPosition = mLayoutManager.findFirstVisibleItemPosition();
+    final MonthPositionWindow window = mMonthAdapter.getPositionWindow();
+    if (!window.isNearEdge(firstPosition, mLayoutManager.findLastVisibleItemPosition())) {
+      return 0;
+    }
+    final int shift = mMonthAdapter.recenterWindow(
+        window.getMonthIndex(getMostVisiblePosition()));
+    if (shift != 0) {
+      mLayoutManager.scrollToPositionWithOffset(firstPosition - shift, child.getTop());
+    }
+    return shift;
+  }
+
+  private void snapToNearestMonth() {
+    final View child = getChildAt(0);
+    if (child == null) {
+      return;
+    }
+    final int firstPosition = mLayoutManager.findFirstVisibleItemPosition();
+    final int lastPosition = mLayoutManager.findLastVisibleItemPosition();
+    if (firstPosition == 0 || lastPosition == mMonthAdapter.getCount() - 1) {
+      return;
+    }
+    final int top = child.getTop();
+    if (top < LIST_TOP_OFFSET) {
+      if (child.getBottom() > getHeight() / 2) {
+        smoothScrollBy(0, top);
+      } else {
+        smoothScrollBy(0, child.getBottom());
+      }
+    }
+  }
+
+  private class MonthScrollListener extends OnScrollListener {
+
+    @Override
+    public void onScrollStateChanged(RecyclerView recyclerView, int newState) {
+      final int previousState = mScrollState;
+      mScrollState = newState;
+      if (mFrameMonitor != null) {
+        if (newState == SCROLL_STATE_IDLE) {
+          mFrameMonitor.stop();
+        } else {
+          mFrameMonitor.start();
+        }
+      }
+      if (newState == SCROLL_STATE_IDLE && previousState != SCROLL_STATE_IDLE) {
+        if (mJumping) {
+          onJumpFinished();
+        }
+        flushAccessibilityInvalidations();
+        if (recenterWindowIfNeeded() == 0) {
+          snapToNearestMonth();
+        }
+      }
+    }
+
+    @Override
+    public void onScrolled(RecyclerView recyclerView, int dx, int dy) {
+      mMonthAdapter.onVisibleRangeChanged(mLayoutManager.findFirstVisibleItemPosition(),
+          mLayoutManager.findLastVisibleItemPosition(), dy);
+    }
+  }
+
+  private class MonthLayoutManager extends LinearLayoutManager {
+
+    MonthLayoutManager(Context context) {
+      super(context);
+    }
+
+    @Override
+    protected int getExtraLayoutSpace(State state) {
+      return mScrollState == SCROLL_STATE_SETTLING ? getHeight() : 0;
+    }
+  }
+
+  private static class MonthViewHolder extends ViewHolder {
+
+    final MonthView mMonthView;
+
+    MonthViewHolder(MonthView monthView) {
+      super(monthView);
+      mMonthView = monthView;
+    }
+  }
+
+  private static class MonthRecyclerAdapter extends Adapter<MonthViewHolder> {
+
+    private final MonthAdapter mMonthAdapter;
+
+    MonthRecyclerAdapter(MonthAdapter monthAdapter) {
+      mMonthAdapter = monthAdapter;
+      setHasStableIds(true);
+      mMonthAdapter.registerDataSetObserver(new DataSetObserver() {
+        @Override
+        public void onChanged() {
+          notifyDataSetChanged();
+        }
+      });
+    }
+
+    @Override
+    public MonthViewHolder onCreateViewHolder(ViewGroup parent, int viewType) {
+      final MonthView v = mMonthAdapter.newMonthView();
+      v.setLayoutParams(new LayoutParams(LayoutParams.MATCH_PARENT, LayoutParams.WRAP_CONTENT));
+      return new MonthViewHolder(v);
+    }
+
+    @Override
+    public void onBindViewHolder(MonthViewHolder holder, int position) {
+      holder.mMonthView.reuse();
+      mMonthAdapter.bindMonthView(holder.mMonthView, position);
+      holder.mMonthView.invalidate();
+    }
+
+    @Override
+    public int getItemCount() {
+      return mMonthAdapter.getCount();
+    }
+
+    @Override
+    public long getItemId(int position) {
+      return mMonthAdapter.getItemId(position);
+    }
+
+    @Override
+    public int getItemViewType(int position) {
+      return MONTH_VIEW_TYPE;
+    }
+  }
+}
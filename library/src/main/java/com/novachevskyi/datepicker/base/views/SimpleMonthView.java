@@ -12,16 +12,28 @@ public class SimpleMonthView extends MonthView {
   @Override
   public void drawMonthDay(Canvas canvas, int year, int month, int day,
       int x, int y, int startX, int stopX, int startY, int stopY) {
-    if (mSelectedDay == day) {
-      canvas.drawCircle(x, y - (MINI_DAY_NUMBER_TEXT_SIZE / 3), DAY_SELECTED_CIRCLE_SIZE,
-          mSelectedCirclePaint);
+    final int centerY = y - (MINI_DAY_NUMBER_TEXT_SIZE / 3);
+    if (isDayInRange(day) && !mDrawingStaticLayer) {
+      final int left = day == mRangeStartDay ? x : startX;
+      final int right = day == mRangeEndDay ? x : stopX;
+      if (left < right) {
+        canvas.drawRect(left, centerY - DAY_SELECTED_CIRCLE_SIZE, right,
+            centerY + DAY_SELECTED_CIRCLE_SIZE, mRangePaint);
+      }
     }
 
-    if (mHasToday && mToday == day) {
+    if ((mSelectedDay == day || mRangeStartDay == day || mRangeEndDay == day
+        || isDaySelected(day)) && !mDrawingStaticLayer) {
+      canvas.drawCircle(x, centerY, DAY_SELECTED_CIRCLE_SIZE, mSelectedCirclePaint);
+    }
+
+    if (isDayDisabled(day)) {
+      mMonthNumPaint.setColor(mDisabledDayTextColor);
+    } else if (mHasToday && mToday == day && !mDrawingStaticLayer) {
       mMonthNumPaint.setColor(mTodayNumberColor);
     } else {
       mMonthNumPaint.setColor(mDayTextColor);
     }
-    canvas.drawText(String.format("%d", day), x, y, mMonthNumPaint);
+    canvas.drawText(getDayNumberString(day), x, y, mMonthNumPaint);
   }
 }
@@ -0,0 +1,195 @@
+package com.novachevskyi.datepicker.base.views;
+
+import android.content.Context;
+import android.content.res.Resources;
+import android.graphics.drawable.StateListDrawable;
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.AdapterView;
+import android.widget.BaseAdapter;
+import android.widget.ListView;
+import android.widget.TextView;
+import com.novachevskyi.datepicker.CalendarDatePickerDialog;
+import com.novachevskyi.datepicker.R;
+import com.novachevskyi.datepicker.base.CalendarDatePickerController;
+import com.novachevskyi.datepicker.base.adapters.MonthAdapter;
+import java.util.Locale;
+
+public class YearPickerView extends ListView implements AdapterView.OnItemClickListener,
+    CalendarDatePickerDialog.OnDateChangedListener {
+
+  private final CalendarDatePickerController mController;
+  private final YearAdapter mAdapter;
+  private final MonthAdapter.CalendarDay mControllerDay = new MonthAdapter.CalendarDay();
+
+  private final int mViewSize;
+  private final int mChildSize;
+  private final int mSelectedYearColor;
+  private final int mYearColor;
+
+  public YearPickerView(Context context, CalendarDatePickerController controller) {
+    super(context);
+    mController = controller;
+    mController.registerOnDateChangedListener(this);
+
+    ViewGroup.LayoutParams frame = new ViewGroup.LayoutParams(LayoutParams.MATCH_PARENT,
+        LayoutParams.WRAP_CONTENT);
+    setLayoutParams(frame);
+
+    Resources res = context.getResources();
+    mViewSize = res.getDimensionPixelOffset(R.dimen.date_picker_view_animator_height);
+    mChildSize = res.getDimensionPixelOffset(R.dimen.year_label_height);
+    mSelectedYearColor = res.getColor(R.color.bpBlue);
+    mYearColor = res.getColor(R.color.date_picker_text_normal);
+
+    setVerticalFadingEdgeEnabled(true);
+    setFadingEdgeLength(mChildSize / 3);
+    setDividerHeight(0);
+    setSelector(new StateListDrawable());
+    setOnItemClickListener(this);
+
+    mAdapter = new YearAdapter(context);
+    setAdapter(mAdapter);
+    onDateChanged();
+  }
+
+  @Override
+  public void onItemClick(AdapterView<?> parent, View view, int position, long id) {
+    mController.onYearSelected(getYearForPosition(position));
+  }
+
+  @Override
+  protected void onAttachedToWindow() {
+    super.onAttachedToWindow();
+    mController.registerOnDateChangedListener(this);
+  }
+
+  @Override
+  protected void onDetachedFromWindow() {
+    super.onDetachedFromWindow();
+    mController.unregisterOnDateChangedListener(this);
+  }
+
+  public int getPositionForYear(int year) {
+    return year - mController.getMinYear();
+  }
+
+  public int getYearForPosition(int position) {
+    return mController.getMinYear() + position;
+  }
+
+  public void onYearRangeChanged() {
+    mAdapter.onYearRangeChanged();
+    onDateChanged();
+  }
+
+  public void setSelectionCentered(int position) {
+    setSelectionFromTop(position, mViewSize / 2 - mChildSize / 2);
+  }
+
+  public int getFirstPositionOffset() {
+    final View firstChild = getChildAt(0);
+    if (firstChild == null) {
+      return 0;
+    }
+    return firstChild.getTop();
+  }
+
+  @Override
+  public void onDateChanged() {
+    mController.getSelectedDay(mControllerDay);
+    mAdapter.setSelectedYear(mControllerDay.year);
+    setSelectionCentered(getPositionForYear(mControllerDay.year));
+  }
+
+  private class YearAdapter extends BaseAdapter {
+
+    private final LayoutInflater mInflater;
+
+    private String[] mYearLabels;
+    private Locale mLocale;
+    private int mSelectedYear;
+
+    YearAdapter(Context context) {
+      mInflater = LayoutInflater.from(context);
+      onYearRangeChanged();
+    }
+
+    void onYearRangeChanged() {
+      mYearLabels = new String[mController.getMaxYear() - mController.getMinYear() + 1];
+      mLocale = Locale.getDefault();
+      notifyDataSetChanged();
+    }
+
+    void setSelectedYear(int year) {
+      if (mSelectedYear == year) {
+        return;
+      }
+      final int previousYear = mSelectedYear;
+      mSelectedYear = year;
+      final int firstPosition = getFirstVisiblePosition();
+      final int childCount = getChildCount();
+      for (int i = 0; i < childCount; i++) {
+        final int childYear = getYearForPosition(firstPosition + i);
+        if (childYear == previousYear || childYear == year) {
+          bindYear((TextView) getChildAt(i), childYear);
+        }
+      }
+    }
+
+    @Override
+    public int getCount() {
+      return mYearLabels.length;
+    }
+
+    @Override
+    public Object getItem(int position) {
+      return null;
+    }
+
+    @Override
+    public long getItemId(int position) {
+      return position;
+    }
+
+    @Override
+    public boolean hasStableIds() {
+      return true;
+    }
+
+    @Override
+    public View getView(int position, View convertView, ViewGroup parent) {
+      TextView v = (TextView) convertView;
+      if (v == null) {
+        v = (TextView) mInflater.inflate(R.layout.calendar_date_picker_year_label, parent, false);
+      }
+      bindYear(v, getYearForPosition(position));
+      return v;
+    }
+
+    private void bindYear(TextView v, int year) {
+      final Locale locale = Locale.getDefault();
+      if (!locale.equals(mLocale)) {
+        mYearLabels = new String[mYearLabels.length];
+        mLocale = locale;
+      }
+      final int position = getPositionForYear(year);
+      String label = mYearLabels[position];
+      if (label == null) {
+        label = String.format(locale, "%d", year);
+        mYearLabels[position] = label;
+      }
+
+      final boolean selected = year == mSelectedYear;
+      v.setText(label);
+      v.setTextColor(selected ? mSelectedYearColor : mYearColor);
+      v.setSelected(selected);
+      if (selected) {
+        v.setContentDescription(getContext().getString(R.string.item_is_selected, label));
+      } else {
+        v.setContentDescription(label);
+      }
+    }
+  }
+}
@@ -0,0 +1,85 @@
+package com.novachevskyi.datepicker.utils;
+
+import android.content.Context;
+import android.text.format.DateFormat;
+import com.novachevskyi.datepicker.R;
+import java.util.Locale;
+import java.util.TimeZone;
+
+public final class DayDescriptionCache {
+
+  public static final int DEFAULT_MAX_SIZE = 24;
+
+  private static final String DATE_FORMAT = "dd MMMM yyyy";
+  private static final int DESCRIPTION_HOUR_OF_DAY = 12;
+  private static final int MAX_DAYS = 31;
+
+  private static final LongLruCache<CharSequence[]> sDescriptions =
+      new LongLruCache<>(DEFAULT_MAX_SIZE);
+
+  private static Locale sLocale;
+  private static int sLastMonthIndex;
+  private static CharSequence[] sLastDescriptions;
+
+  private DayDescriptionCache() {
+  }
+
+  public static CharSequence getDescription(Context context, int year, int month, int day,
+      boolean selected) {
+    final CharSequence[] descriptions = getMonthDescriptions(year, month);
+    final int index = selected ? MAX_DAYS + day - 1 : day - 1;
+    CharSequence description = descriptions[index];
+    if (description == null) {
+      if (selected) {
+        description = context.getString(R.string.item_is_selected,
+            getDescription(context, year, month, day, false));
+      } else {
+        description = formatDescription(year, month, day);
+      }
+      descriptions[index] = description;
+    }
+    return description;
+  }
+
+  private static CharSequence[] getMonthDescriptions(int year, int month) {
+    final Locale locale = Locale.getDefault();
+    if (!locale.equals(sLocale)) {
+      invalidate();
+      sLocale = locale;
+    }
+
+    final int monthIndex = CalendarMath.toMonthIndex(year, month);
+    if (sLastDescriptions != null && sLastMonthIndex == monthIndex) {
+      return sLastDescriptions;
+    }
+
+    CharSequence[] descriptions = sDescriptions.get(monthIndex);
+    if (descriptions == null) {
+      descriptions = new CharSequence[MAX_DAYS * 2];
+      sDescriptions.put(monthIndex, descriptions);
+    }
+    sLastMonthIndex = monthIndex;
+    sLastDescriptions = descriptions;
+    return descriptions;
+  }
+
+  private static CharSequence formatDescription(int year, int month, int day) {
+    final long millis = CalendarMath.toLocalMillis(CalendarMath.toEpochDay(year, month, day),
+        DESCRIPTION_HOUR_OF_DAY, TimeZone.getDefault());
+    return DateFormat.format(DATE_FORMAT, millis);
+  }
+
+  public static void invalidate() {
+    sDescriptions.evictAll();
+    sLastDescriptions = null;
+    sLocale = null;
+  }
+
+  public static int getHitCount() {
+    return sDescriptions.hitCount();
+  }
+
+  public static int getMissCount() {
+    return sDescriptions.missCount();
+  }
+}
@@ -0,0 +1,64 @@
+package com.novachevskyi.datepicker.utils;
+
+import android.graphics.Paint;
+import android.graphics.Typeface;
+import java.util.Locale;
+
+public final class DayNumberCache {
+
+  public static final int MAX_DAY_NUMBER = DayNumberStrings.MAX_DAY_NUMBER;
+
+  private static DayNumberCache sInstance;
+
+  private final DayNumberStrings mDayNumbers;
+  private final float[] mWidths = new float[MAX_DAY_NUMBER + 1];
+
+  private float mMeasuredTextSize = -1;
+  private Typeface mMeasuredTypeface;
+  private boolean mMeasuredFakeBold;
+
+  private DayNumberCache(DayNumberStrings dayNumbers) {
+    mDayNumbers = dayNumbers;
+  }
+
+  public static DayNumberCache getInstance() {
+    final DayNumberStrings dayNumbers = DayNumberStrings.getInstance();
+    DayNumberCache cache = sInstance;
+    if (cache == null || cache.mDayNumbers != dayNumbers) {
+      cache = new DayNumberCache(dayNumbers);
+      sInstance = cache;
+    }
+    return cache;
+  }
+
+  public static void invalidate() {
+    DayNumberStrings.invalidate();
+    sInstance = null;
+  }
+
+  public Locale getLocale() {
+    return mDayNumbers.getLocale();
+  }
+
+  public String getDayNumber(int day) {
+    return mDayNumbers.get(day);
+  }
+
+  public float getDayNumberWidth(int day, Paint paint) {
+    if (mMeasuredTextSize != paint.getTextSize()
+        || mMeasuredTypeface != paint.getTypeface()
+        || mMeasuredFakeBold != paint.isFakeBoldText()) {
+      measure(paint);
+    }
+    return mWidths[day];
+  }
+
+  private void measure(Paint paint) {
+    for (int day = 1; day <= MAX_DAY_NUMBER; day++) {
+      mWidths[day] = paint.measureText(mDayNumbers.get(day));
+    }
+    mMeasuredTextSize = paint.getTextSize();
+    mMeasuredTypeface = paint.getTypeface();
+    mMeasuredFakeBold = paint.isFakeBoldText();
+  }
+}
@@ -0,0 +1,96 @@
+package com.novachevskyi.datepicker.utils;
+
+import android.graphics.Bitmap;
+import java.util.Locale;
+
+public final class MonthTileCache {
+
+  private static final int MONTHS_IN_YEAR = 12;
+  private static final int WEEK_START_SLOTS = 8;
+  private static final int VARIANT_BITS = 31;
+  private static final long VARIANT_MASK = 0x7fffffffL;
+  private static final int DEFAULT_MEMORY_FRACTION = 16;
+  // Far more tiles than a byte budget of a sixteenth of the heap can hold at any screen width.
+  private static final int MAX_TILES = 128;
+
+  private static MonthTileCache sInstance;
+
+  private final LongLruCache<Bitmap> mTiles;
+
+  private int mWidth;
+  private int mRowHeight;
+  private int mStyle;
+  private Locale mLocale;
+
+  private MonthTileCache(int maxBytes) {
+    mTiles = new LongLruCache<Bitmap>(MAX_TILES, maxBytes) {
+      @Override
+      protected int sizeOf(long key, Bitmap tile) {
+        return tile.getRowBytes() * tile.getHeight();
+      }
+    };
+  }
+
+  public static MonthTileCache getInstance() {
+    if (sInstance == null) {
+      long maxMemory = Runtime.getRuntime().maxMemory();
+      sInstance = new MonthTileCache(
+          (int) Math.min(Integer.MAX_VALUE, maxMemory / DEFAULT_MEMORY_FRACTION));
+    }
+    return sInstance;
+  }
+
+  public static void setMaxBytes(int maxBytes) {
+    if (maxBytes <= 0) {
+      throw new IllegalArgumentException("Tile cache size must be positive");
+    }
+    sInstance = new MonthTileCache(maxBytes);
+  }
+
+  public static void invalidate() {
+    if (sInstance != null) {
+      sInstance.mTiles.evictAll();
+    }
+  }
+
+  public Bitmap get(int year, int month, int weekStart, int variant, int width, int rowHeight,
+      int style) {
+    checkGeometry(width, rowHeight, style);
+    return mTiles.get(getKey(year, month, weekStart, variant));
+  }
+
+  public void put(int year, int month, int weekStart, int variant, int width, int rowHeight,
+      int style, Bitmap tile) {
+    checkGeometry(width, rowHeight, style);
+    mTiles.put(getKey(year, month, weekStart, variant), tile);
+  }
+
+  public int getHitCount() {
+    return mTiles.hitCount();
+  }
+
+  public int getMissCount() {
+    return mTiles.missCount();
+  }
+
+  public int getSizeBytes() {
+    return mTiles.size();
+  }
+
+  private void checkGeometry(int width, int rowHeight, int style) {
+    final Locale locale = Locale.getDefault();
+    if (mWidth != width || mRowHeight != rowHeight || mStyle != style
+        || !locale.equals(mLocale)) {
+      mTiles.evictAll();
+      mWidth = width;
+      mRowHeight = rowHeight;
+      mStyle = style;
+      mLocale = locale;
+    }
+  }
+
+  private static long getKey(int year, int month, int weekStart, int variant) {
+    final long monthKey = ((long) year * MONTHS_IN_YEAR + month) * WEEK_START_SLOTS + weekStart;
+    return (monthKey << VARIANT_BITS) | (variant & VARIANT_MASK);
+  }
+}
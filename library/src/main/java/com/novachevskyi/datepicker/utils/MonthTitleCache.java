@@ -0,0 +1,63 @@
+package com.novachevskyi.datepicker.utils;
+
+import android.content.Context;
+import android.text.format.DateUtils;
+import android.text.format.Time;
+import java.util.Formatter;
+import java.util.Locale;
+import java.util.TimeZone;
+
+public final class MonthTitleCache {
+
+  public static final int DEFAULT_MAX_SIZE = 120;
+
+  private static final int TITLE_HOUR_OF_DAY = 12;
+
+  private static final LongLruCache<String> sTitles = new LongLruCache<>(DEFAULT_MAX_SIZE);
+  private static final StringBuilder sStringBuilder = new StringBuilder(50);
+
+  private static Formatter sFormatter;
+  private static Locale sLocale;
+
+  private MonthTitleCache() {
+  }
+
+  public static String getTitle(Context context, int year, int month, int flags) {
+    final Locale locale = Locale.getDefault();
+    if (!locale.equals(sLocale)) {
+      sTitles.evictAll();
+      sFormatter = new Formatter(sStringBuilder, locale);
+      sLocale = locale;
+    }
+
+    final long key = MonthState.getTitleKey(CalendarMath.toMonthIndex(year, month), flags);
+    String title = sTitles.get(key);
+    if (title == null) {
+      title = formatTitle(context, year, month, flags);
+      sTitles.put(key, title);
+    }
+    return title;
+  }
+
+  private static String formatTitle(Context context, int year, int month, int flags) {
+    final long millis = CalendarMath.toLocalMillis(CalendarMath.toEpochDay(year, month, 1),
+        TITLE_HOUR_OF_DAY, TimeZone.getDefault());
+
+    sStringBuilder.setLength(0);
+    return DateUtils.formatDateRange(context, sFormatter, millis, millis, flags,
+        Time.getCurrentTimezone()).toString();
+  }
+
+  public static void invalidate() {
+    sTitles.evictAll();
+    sLocale = null;
+  }
+
+  public static int getHitCount() {
+    return sTitles.hitCount();
+  }
+
+  public static int getMissCount() {
+    return sTitles.missCount();
+  }
+}
@@ -5,9 +5,7 @@ import android.animation.ObjectAnimator;
 import android.animation.PropertyValuesHolder;
 import android.annotation.SuppressLint;
 import android.os.Build;
-import android.text.format.Time;
 import android.view.View;
-import java.util.Calendar;
 
 public class Utils {
 
@@ -25,34 +23,14 @@ public class Utils {
   }
 
   public static int getDaysInMonth(int month, int year) {
-    switch (month) {
-      case Calendar.JANUARY:
-      case Calendar.MARCH:
-      case Calendar.MAY:
-      case Calendar.JULY:
-      case Calendar.AUGUST:
-      case Calendar.OCTOBER:
-      case Calendar.DECEMBER:
-        return 31;
-      case Calendar.APRIL:
-      case Calendar.JUNE:
-      case Calendar.SEPTEMBER:
-      case Calendar.NOVEMBER:
-        return 30;
-      case Calendar.FEBRUARY:
-        return (year % 4 == 0) ? 29 : 28;
-      default:
-        throw new IllegalArgumentException("Invalid Month");
+    if (month < 0 || month >= CalendarMath.MONTHS_IN_YEAR) {
+      throw new IllegalArgumentException("Invalid Month");
     }
+    return CalendarMath.getDaysInMonth(year, month);
   }
 
   public static int getWeeksSinceEpochFromJulianDay(int julianDay, int firstDayOfWeek) {
-    int diff = Time.THURSDAY - firstDayOfWeek;
-    if (diff < 0) {
-      diff += 7;
-    }
-    int refDay = Time.EPOCH_JULIAN_DAY - diff;
-    return (julianDay - refDay) / 7;
+    return CalendarMath.getWeeksSinceEpochFromJulianDay(julianDay, firstDayOfWeek);
   }
 
   public static ObjectAnimator getPulseAnimator(View labelToAnimate, float decreaseRatio,
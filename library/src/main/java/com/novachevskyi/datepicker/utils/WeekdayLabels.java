@@ -0,0 +1,97 @@
+package com.novachevskyi.datepicker.utils;
+
+import android.graphics.Paint;
+import android.graphics.Typeface;
+import android.util.SparseArray;
+import java.util.Calendar;
+import java.util.Locale;
+
+public final class WeekdayLabels {
+
+  public static final int DAYS_IN_WEEK = 7;
+
+  private static final SparseArray<WeekdayLabels> sTables = new SparseArray<>();
+  private static Locale sLocale;
+
+  private final Locale mLocale;
+  private final int mWeekStart;
+  private final int mStyle;
+  private final String[] mLabels = new String[DAYS_IN_WEEK];
+  private final float[] mWidths = new float[DAYS_IN_WEEK];
+
+  private float mMeasuredTextSize = -1;
+  private Typeface mMeasuredTypeface;
+  private boolean mMeasuredFakeBold;
+
+  private WeekdayLabels(Locale locale, int weekStart, int style) {
+    mLocale = locale;
+    mWeekStart = weekStart;
+    mStyle = style;
+
+    Calendar calendar = Calendar.getInstance(locale);
+    for (int column = 0; column < DAYS_IN_WEEK; column++) {
+      calendar.set(Calendar.DAY_OF_WEEK, getDayOfWeek(column));
+      mLabels[column] = calendar.getDisplayName(Calendar.DAY_OF_WEEK, style, locale)
+          .toUpperCase(locale);
+    }
+  }
+
+  public static WeekdayLabels getInstance(int weekStart, int style) {
+    final Locale locale = Locale.getDefault();
+    if (!locale.equals(sLocale)) {
+      sTables.clear();
+      sLocale = locale;
+    }
+
+    final int key = style * (DAYS_IN_WEEK + 1) + weekStart;
+    WeekdayLabels labels = sTables.get(key);
+    if (labels == null) {
+      labels = new WeekdayLabels(locale, weekStart, style);
+      sTables.put(key, labels);
+    }
+    return labels;
+  }
+
+  public static void invalidate() {
+    sTables.clear();
+    sLocale = null;
+  }
+
+  public Locale getLocale() {
+    return mLocale;
+  }
+
+  public int getWeekStart() {
+    return mWeekStart;
+  }
+
+  public int getStyle() {
+    return mStyle;
+  }
+
+  public int getDayOfWeek(int column) {
+    return (column + mWeekStart - 1) % DAYS_IN_WEEK + Calendar.SUNDAY;
+  }
+
+  public String getLabel(int column) {
+    return mLabels[column];
+  }
+
+  public float getLabelWidth(int column, Paint paint) {
+    if (mMeasuredTextSize != paint.getTextSize()
+        || mMeasuredTypeface != paint.getTypeface()
+        || mMeasuredFakeBold != paint.isFakeBoldText()) {
+      measure(paint);
+    }
+    return mWidths[column];
+  }
+
+  private void measure(Paint paint) {
+    for (int column = 0; column < DAYS_IN_WEEK; column++) {
+      mWidths[column] = paint.measureText(mLabels[column]);
+    }
+    mMeasuredTextSize = paint.getTextSize();
+    mMeasuredTypeface = paint.getTypeface();
+    mMeasuredFakeBold = paint.isFakeBoldText();
+  }
+}